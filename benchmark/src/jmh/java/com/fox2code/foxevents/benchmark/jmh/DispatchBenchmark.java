@@ -0,0 +1,66 @@
+package com.fox2code.foxevents.benchmark.jmh;
+
+import com.fox2code.foxevents.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatch benchmarks, covering the scenarios of the legacy {@code Main} benchmark.
+ * @since 1.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DispatchBenchmark {
+    /**
+     * New event without holder, resolving its holder on {@link Event#callEvent()}
+     */
+    @Benchmark
+    public Event uncachedCallEvent(DispatchState state) {
+        Event event = state.newEvent();
+        event.callEvent();
+        return event;
+    }
+
+    /**
+     * Same event instance dispatched repeatedly, its holder is resolved once
+     */
+    @Benchmark
+    public Event singletonCallEvent(DispatchState state) {
+        Event event = state.singletonEvent;
+        if (state.cancellable) {
+            event.setCancelled(false);
+        }
+        event.callEvent();
+        return event;
+    }
+
+    /**
+     * New event providing its holder at construction
+     */
+    @Benchmark
+    public Event providedHolderCallEvent(DispatchState state) {
+        Event event = state.newProvidedEvent();
+        event.callEvent();
+        return event;
+    }
+
+    /**
+     * New event dispatched through a cached holder
+     */
+    @Benchmark
+    public Event cachedHolderCallEvent(DispatchState state) {
+        Event event = state.newEvent();
+        state.eventHolder.callEvent(event);
+        return event;
+    }
+}
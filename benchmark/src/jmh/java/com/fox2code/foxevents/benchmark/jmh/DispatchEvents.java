@@ -0,0 +1,65 @@
+package com.fox2code.foxevents.benchmark.jmh;
+
+import com.fox2code.foxevents.Event;
+import com.fox2code.foxevents.EventHolder;
+
+/**
+ * Events dispatched by {@link DispatchBenchmark}, listeners are registered on root events,
+ * and reached through {@link Event.DelegateEvent} chains of increasing depth.
+ * @since 1.4.0
+ */
+public final class DispatchEvents {
+    private DispatchEvents() {}
+
+    public static class RootEvent extends Event {
+        public RootEvent() {}
+
+        public RootEvent(EventHolder<?> eventHolder) {
+            super(eventHolder);
+        }
+    }
+
+    @Event.DelegateEvent
+    public static class DelegateEvent extends RootEvent {
+        public DelegateEvent() {}
+
+        public DelegateEvent(EventHolder<?> eventHolder) {
+            super(eventHolder);
+        }
+    }
+
+    @Event.DelegateEvent
+    public static class DeepDelegateEvent extends DelegateEvent {
+        public DeepDelegateEvent() {}
+
+        public DeepDelegateEvent(EventHolder<?> eventHolder) {
+            super(eventHolder);
+        }
+    }
+
+    public static class CancellableRootEvent extends Event implements Event.Cancellable {
+        public CancellableRootEvent() {}
+
+        public CancellableRootEvent(EventHolder<?> eventHolder) {
+            super(eventHolder);
+        }
+    }
+
+    @Event.DelegateEvent
+    public static class CancellableDelegateEvent extends CancellableRootEvent {
+        public CancellableDelegateEvent() {}
+
+        public CancellableDelegateEvent(EventHolder<?> eventHolder) {
+            super(eventHolder);
+        }
+    }
+
+    @Event.DelegateEvent
+    public static class CancellableDeepDelegateEvent extends CancellableDelegateEvent {
+        public CancellableDeepDelegateEvent() {}
+
+        public CancellableDeepDelegateEvent(EventHolder<?> eventHolder) {
+            super(eventHolder);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.fox2code.foxevents.benchmark.jmh;
+
+import com.fox2code.foxevents.EventHandler;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Listeners registered by {@link DispatchBenchmark}, consuming events in a {@link Blackhole}.
+ * @since 1.4.0
+ */
+public final class DispatchListeners {
+    private DispatchListeners() {}
+
+    public static final class Listener {
+        private final Blackhole blackhole;
+
+        public Listener(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @EventHandler
+        public void onRootEvent(DispatchEvents.RootEvent event) {
+            this.blackhole.consume(event);
+        }
+    }
+
+    public static final class CancellableListener {
+        private final Blackhole blackhole;
+
+        public CancellableListener(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @EventHandler
+        public void onCancellableRootEvent(DispatchEvents.CancellableRootEvent event) {
+            this.blackhole.consume(event);
+        }
+    }
+
+    public static final class IgnoreCancelledListener {
+        private final Blackhole blackhole;
+
+        public IgnoreCancelledListener(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @EventHandler(ignoreCancelled = true)
+        public void onCancellableRootEvent(DispatchEvents.CancellableRootEvent event) {
+            this.blackhole.consume(event);
+        }
+    }
+
+    public static final class CancellingListener {
+        @EventHandler(priority = Integer.MAX_VALUE)
+        public void onCancellableRootEvent(DispatchEvents.CancellableRootEvent event) {
+            event.setCancelled(true);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.fox2code.foxevents.benchmark.jmh;
+
+import com.fox2code.foxevents.Event;
+import com.fox2code.foxevents.EventHolder;
+import com.fox2code.foxevents.benchmark.BenchmarkFoxEventsImpl;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Listeners and events of {@link DispatchBenchmark}, parameterized over the listener count,
+ * cancellation, {@code ignoreCancelled} listeners, {@link Event.DelegateEvent} depth,
+ * and safe versus unsafe callbacks.
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+public class DispatchState {
+    private static final BenchmarkFoxEventsImpl FOX_EVENTS = JmhFoxEvents.INSTANCE;
+
+    /**
+     * Number of listeners, excluding the cancelling listener
+     */
+    @Param({"1", "16"})
+    public int listeners;
+
+    /**
+     * Cancellation of the event, {@code none} dispatch a non cancellable event,
+     * {@code cancelled} dispatch a cancellable event cancelled by the first listener, and
+     * {@code cancelled-half-ignored} also make half of the listeners, rounded up, {@code ignoreCancelled}
+     */
+    @Param({"none", "cancelled", "cancelled-half-ignored"})
+    public String cancellation;
+
+    /**
+     * Number of {@link Event.DelegateEvent} between the dispatched event and the listeners
+     */
+    @Param({"0", "2"})
+    public int delegateDepth;
+
+    /**
+     * If callbacks are made with the unsafe registration path
+     */
+    @Param({"false", "true"})
+    public boolean unsafe;
+
+    /**
+     * If the event is cancellable, derived from {@link #cancellation}
+     */
+    public boolean cancellable;
+    public EventHolder<Event> eventHolder;
+    public Event singletonEvent;
+    private Supplier<Event> eventFactory;
+    private Function<EventHolder<?>, Event> providedEventFactory;
+    private final ArrayList<Object> handlers = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup(Blackhole blackhole) {
+        FOX_EVENTS.setUnsafeMode(this.unsafe);
+        int ignoreCancelled;
+        switch (this.cancellation) {
+            case "none":
+                this.cancellable = false;
+                ignoreCancelled = 0;
+                break;
+            case "cancelled":
+                this.cancellable = true;
+                ignoreCancelled = 0;
+                break;
+            case "cancelled-half-ignored":
+                this.cancellable = true;
+                // Rounded up, so a single listener is still ignoreCancelled
+                ignoreCancelled = (this.listeners + 1) / 2;
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported cancellation: " + this.cancellation);
+        }
+        for (int i = 0; i < this.listeners; i++) {
+            this.handlers.add(!this.cancellable ? new DispatchListeners.Listener(blackhole) :
+                    i < ignoreCancelled ? new DispatchListeners.IgnoreCancelledListener(blackhole) :
+                            new DispatchListeners.CancellableListener(blackhole));
+        }
+        if (this.cancellable) {
+            this.handlers.add(new DispatchListeners.CancellingListener());
+        }
+        for (Object handler : this.handlers) {
+            FOX_EVENTS.registerEvents(handler);
+        }
+        switch (this.delegateDepth) {
+            case 0:
+                this.eventFactory = this.cancellable ?
+                        DispatchEvents.CancellableRootEvent::new : DispatchEvents.RootEvent::new;
+                this.providedEventFactory = this.cancellable ?
+                        DispatchEvents.CancellableRootEvent::new : DispatchEvents.RootEvent::new;
+                break;
+            case 1:
+                this.eventFactory = this.cancellable ?
+                        DispatchEvents.CancellableDelegateEvent::new : DispatchEvents.DelegateEvent::new;
+                this.providedEventFactory = this.cancellable ?
+                        DispatchEvents.CancellableDelegateEvent::new : DispatchEvents.DelegateEvent::new;
+                break;
+            case 2:
+                this.eventFactory = this.cancellable ?
+                        DispatchEvents.CancellableDeepDelegateEvent::new : DispatchEvents.DeepDelegateEvent::new;
+                this.providedEventFactory = this.cancellable ?
+                        DispatchEvents.CancellableDeepDelegateEvent::new : DispatchEvents.DeepDelegateEvent::new;
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported delegate depth: " + this.delegateDepth);
+        }
+        this.singletonEvent = this.eventFactory.get();
+        this.eventHolder = (EventHolder<Event>) EventHolder.getHolderFromEventRaw(this.singletonEvent.getClass());
+        this.eventHolder.ensureBaked();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (Object handler : this.handlers) {
+            FOX_EVENTS.unregisterEvents(handler);
+        }
+        this.handlers.clear();
+    }
+
+    public Event newEvent() {
+        return this.eventFactory.get();
+    }
+
+    public Event newProvidedEvent() {
+        return this.providedEventFactory.apply(this.eventHolder);
+    }
+}
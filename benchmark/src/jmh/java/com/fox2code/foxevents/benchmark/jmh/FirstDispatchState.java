@@ -0,0 +1,37 @@
+package com.fox2code.foxevents.benchmark.jmh;
+
+import com.fox2code.foxevents.benchmark.BenchmarkFoxEventsImpl;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Register the {@link RegistrationState} handlers before each invocation, and unregister them after,
+ * so {@link RegistrationBenchmark#firstDispatch(RegistrationState, FirstDispatchState)} only measure
+ * the first dispatch after a registration.
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+public class FirstDispatchState {
+    private static final BenchmarkFoxEventsImpl FOX_EVENTS = JmhFoxEvents.INSTANCE;
+
+    private RegistrationListeners.Listener[] registeredHandlers;
+
+    @Setup(Level.Invocation)
+    public void register(RegistrationState registrationState) {
+        this.registeredHandlers = registrationState.handlerInstances;
+        for (RegistrationListeners.Listener handler : this.registeredHandlers) {
+            FOX_EVENTS.registerEvents(handler);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void unregister() {
+        for (RegistrationListeners.Listener handler : this.registeredHandlers) {
+            FOX_EVENTS.unregisterEvents(handler);
+        }
+        this.registeredHandlers = null;
+    }
+}
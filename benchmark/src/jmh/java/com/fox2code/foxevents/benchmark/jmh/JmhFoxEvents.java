@@ -0,0 +1,18 @@
+package com.fox2code.foxevents.benchmark.jmh;
+
+import com.fox2code.foxevents.FoxEvents;
+import com.fox2code.foxevents.benchmark.BenchmarkFoxEventsImpl;
+
+/**
+ * FoxEvents implementation shared by benchmarks, set once per forked JVM.
+ * @since 1.4.0
+ */
+final class JmhFoxEvents {
+    static final BenchmarkFoxEventsImpl INSTANCE = new BenchmarkFoxEventsImpl();
+
+    static {
+        FoxEvents.setFoxEvents(INSTANCE);
+    }
+
+    private JmhFoxEvents() {}
+}
@@ -0,0 +1,98 @@
+package com.fox2code.foxevents.benchmark.jmh;
+
+import com.fox2code.foxevents.EventRegistration;
+import com.fox2code.foxevents.benchmark.BenchmarkFoxEventsImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registration churn benchmarks, handlers are registered then unregistered in each operation,
+ * so the number of registered listeners stay the same during the benchmark.
+ * @since 1.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx2g")
+public class RegistrationBenchmark {
+    private static final BenchmarkFoxEventsImpl FOX_EVENTS = JmhFoxEvents.INSTANCE;
+
+    /**
+     * Register then unregister handler instances with {@code registerEvents} and {@code unregisterEvents}
+     */
+    @Benchmark
+    public void registerUnregisterInstances(RegistrationState state) {
+        RegistrationListeners.Listener[] handlerInstances = state.handlerInstances;
+        for (RegistrationListeners.Listener handler : handlerInstances) {
+            FOX_EVENTS.registerEvents(handler);
+        }
+        for (RegistrationListeners.Listener handler : handlerInstances) {
+            FOX_EVENTS.unregisterEvents(handler);
+        }
+    }
+
+    /**
+     * Register then unregister handler instances with registration handles
+     */
+    @Benchmark
+    public void registerUnregisterHandles(RegistrationState state) {
+        RegistrationListeners.Listener[] handlerInstances = state.handlerInstances;
+        EventRegistration[] eventRegistrations = new EventRegistration[handlerInstances.length];
+        for (int i = 0; i < handlerInstances.length; i++) {
+            eventRegistrations[i] = FOX_EVENTS.registerEventsHandle(handlerInstances[i]);
+        }
+        for (EventRegistration eventRegistration : eventRegistrations) {
+            eventRegistration.unregister();
+        }
+    }
+
+    /**
+     * Register then unregister classes with static handlers, static handlers have no owner,
+     * so they can only be unregistered with their registration handle
+     */
+    @Benchmark
+    public void registerUnregisterClass(RegistrationState state) {
+        Class<?>[] handlerClasses = state.handlerClasses;
+        EventRegistration[] eventRegistrations = new EventRegistration[handlerClasses.length];
+        for (int i = 0; i < handlerClasses.length; i++) {
+            eventRegistrations[i] = FOX_EVENTS.registerEventsHandle(handlerClasses[i]);
+        }
+        for (EventRegistration eventRegistration : eventRegistrations) {
+            eventRegistration.unregister();
+        }
+    }
+
+    /**
+     * Register handler instances, dispatch an event, then unregister them,
+     * registration already re-bake the holder, see {@link #firstDispatch} for the dispatch alone
+     */
+    @Benchmark
+    public void registerDispatchUnregister(RegistrationState state) {
+        RegistrationListeners.Listener[] handlerInstances = state.handlerInstances;
+        for (RegistrationListeners.Listener handler : handlerInstances) {
+            FOX_EVENTS.registerEvents(handler);
+        }
+        state.eventHolder.callEvent(new DispatchEvents.RootEvent());
+        for (RegistrationListeners.Listener handler : handlerInstances) {
+            FOX_EVENTS.unregisterEvents(handler);
+        }
+    }
+
+    /**
+     * Dispatch an event right after handlers are registered, each invocation is sampled,
+     * as registering and unregistering are done around each of them by {@link FirstDispatchState}
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public void firstDispatch(RegistrationState state, FirstDispatchState firstDispatchState) {
+        state.eventHolder.callEvent(new DispatchEvents.RootEvent());
+    }
+}
@@ -0,0 +1,46 @@
+package com.fox2code.foxevents.benchmark.jmh;
+
+import com.fox2code.foxevents.EventHandler;
+
+/**
+ * Listeners registered and unregistered by {@link RegistrationBenchmark}.
+ * @since 1.4.0
+ */
+public final class RegistrationListeners {
+    private RegistrationListeners() {}
+
+    public static final class Listener {
+        @EventHandler
+        public void onRootEvent(DispatchEvents.RootEvent event) {}
+
+        @EventHandler(ignoreCancelled = true)
+        public void onCancellableRootEvent(DispatchEvents.CancellableRootEvent event) {}
+    }
+
+    /**
+     * Loaded once per {@link ValidatorState.IsolatedClassLoader} by {@link RegistrationState},
+     * so each load is a distinct handler class, listening to the shared events
+     */
+    public static final class StaticListener {
+        private StaticListener() {}
+
+        @EventHandler
+        public static void onRootEvent(DispatchEvents.RootEvent event) {}
+
+        @EventHandler(ignoreCancelled = true)
+        public static void onCancellableRootEvent(DispatchEvents.CancellableRootEvent event) {}
+    }
+
+    /**
+     * Loaded once per {@link IsolatedClassLoader}, so each load get its own event holder
+     */
+    public static final class IsolatedEvent extends com.fox2code.foxevents.Event {}
+
+    /**
+     * Loaded once per {@link IsolatedClassLoader}, listening to the isolated {@link IsolatedEvent}
+     */
+    public static final class IsolatedListener {
+        @EventHandler
+        public void onIsolatedEvent(IsolatedEvent event) {}
+    }
+}
@@ -0,0 +1,76 @@
+package com.fox2code.foxevents.benchmark.jmh;
+
+import com.fox2code.foxevents.EventHolder;
+import com.fox2code.foxevents.benchmark.BenchmarkFoxEventsImpl;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+
+/**
+ * Listeners already registered when {@link RegistrationBenchmark} register and unregister handlers,
+ * parameterized over the existing listener count, and safe versus unsafe registration.
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+public class RegistrationState {
+    static final BenchmarkFoxEventsImpl FOX_EVENTS = JmhFoxEvents.INSTANCE;
+
+    /**
+     * Number of listeners already registered on the same events
+     */
+    @Param({"1000", "10000", "100000"})
+    public int existingListeners;
+
+    /**
+     * Number of handler instances, or static handler classes, registered per operation
+     */
+    @Param({"1", "100"})
+    public int handlers;
+
+    /**
+     * If handlers are registered with the unsafe registration path
+     */
+    @Param({"false", "true"})
+    public boolean unsafe;
+
+    public EventHolder<DispatchEvents.RootEvent> eventHolder;
+    public RegistrationListeners.Listener[] handlerInstances;
+    // Each one loaded by its own class loader, so each one is a distinct handler class
+    public Class<?>[] handlerClasses;
+    private final ArrayList<Object> existingHandlers = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        FOX_EVENTS.setUnsafeMode(this.unsafe);
+        for (int i = 0; i < this.existingListeners; i++) {
+            RegistrationListeners.Listener listener = new RegistrationListeners.Listener();
+            FOX_EVENTS.registerEvents(listener);
+            this.existingHandlers.add(listener);
+        }
+        this.handlerInstances = new RegistrationListeners.Listener[this.handlers];
+        for (int i = 0; i < this.handlers; i++) {
+            this.handlerInstances[i] = new RegistrationListeners.Listener();
+        }
+        byte[] staticListenerBytes = ValidatorState.readClassBytes(RegistrationListeners.StaticListener.class);
+        this.handlerClasses = new Class<?>[this.handlers];
+        for (int i = 0; i < this.handlers; i++) {
+            this.handlerClasses[i] = new ValidatorState.IsolatedClassLoader().define(
+                    RegistrationListeners.StaticListener.class.getName(), staticListenerBytes);
+        }
+        this.eventHolder = EventHolder.getHolderFromEvent(DispatchEvents.RootEvent.class);
+        this.eventHolder.ensureBaked();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (Object handler : this.existingHandlers) {
+            FOX_EVENTS.unregisterEvents(handler);
+        }
+        this.existingHandlers.clear();
+    }
+}
@@ -0,0 +1,45 @@
+package com.fox2code.foxevents.benchmark.jmh;
+
+import com.fox2code.foxevents.EventHolder;
+import com.fox2code.foxevents.benchmark.BenchmarkFoxEventsImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validator invalidation benchmarks across thousands of event holders.
+ * @since 1.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ValidatorBenchmark {
+    private static final BenchmarkFoxEventsImpl FOX_EVENTS = JmhFoxEvents.INSTANCE;
+
+    /**
+     * Invalidate validators, holders are only re-baked when next used
+     */
+    @Benchmark
+    public void invalidateCallbackValidators(ValidatorState state) {
+        FOX_EVENTS.invalidateValidators();
+    }
+
+    /**
+     * Invalidate validators, then re-bake every holder, like the first dispatch after a change
+     */
+    @Benchmark
+    public void invalidateCallbackValidatorsAndRebake(ValidatorState state) {
+        FOX_EVENTS.invalidateValidators();
+        for (EventHolder<?> eventHolder : state.eventHolderArray) {
+            eventHolder.ensureBaked();
+        }
+    }
+}
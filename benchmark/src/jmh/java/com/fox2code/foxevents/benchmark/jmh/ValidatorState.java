@@ -0,0 +1,97 @@
+package com.fox2code.foxevents.benchmark.jmh;
+
+import com.fox2code.foxevents.EventHolder;
+import com.fox2code.foxevents.benchmark.BenchmarkFoxEventsImpl;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+
+/**
+ * Thousands of event holders with a listener each, for {@link ValidatorBenchmark},
+ * each holder event class is loaded by its own class loader.
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+public class ValidatorState {
+    static final BenchmarkFoxEventsImpl FOX_EVENTS = JmhFoxEvents.INSTANCE;
+
+    /**
+     * Number of event holders having a listener
+     */
+    @Param({"1000", "10000"})
+    public int eventHolders;
+
+    /**
+     * If listeners are registered with the unsafe registration path
+     */
+    @Param({"false", "true"})
+    public boolean unsafe;
+
+    public EventHolder<?>[] eventHolderArray;
+    // Keep isolated class loaders, and so their event holders, reachable
+    private final ArrayList<Object> handlers = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() throws ReflectiveOperationException {
+        FOX_EVENTS.setUnsafeMode(this.unsafe);
+        byte[] eventBytes = readClassBytes(RegistrationListeners.IsolatedEvent.class);
+        byte[] listenerBytes = readClassBytes(RegistrationListeners.IsolatedListener.class);
+        this.eventHolderArray = new EventHolder<?>[this.eventHolders];
+        for (int i = 0; i < this.eventHolders; i++) {
+            IsolatedClassLoader isolatedClassLoader = new IsolatedClassLoader();
+            Class<?> eventClass = isolatedClassLoader.define(
+                    RegistrationListeners.IsolatedEvent.class.getName(), eventBytes);
+            Class<?> listenerClass = isolatedClassLoader.define(
+                    RegistrationListeners.IsolatedListener.class.getName(), listenerBytes);
+            Object handler = listenerClass.getConstructor().newInstance();
+            FOX_EVENTS.registerEvents(handler);
+            this.handlers.add(handler);
+            this.eventHolderArray[i] = EventHolder.getHolderFromEventRaw(eventClass);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (Object handler : this.handlers) {
+            FOX_EVENTS.unregisterEvents(handler);
+        }
+        this.handlers.clear();
+    }
+
+    static byte[] readClassBytes(Class<?> cls) {
+        String resource = cls.getName().replace('.', '/') + ".class";
+        try (InputStream inputStream = cls.getClassLoader().getResourceAsStream(resource)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Missing class file: " + resource);
+            }
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                byteArrayOutputStream.write(buffer, 0, read);
+            }
+            return byteArrayOutputStream.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static final class IsolatedClassLoader extends ClassLoader {
+        IsolatedClassLoader() {
+            super(ValidatorState.class.getClassLoader());
+        }
+
+        Class<?> define(String name, byte[] bytes) {
+            return this.defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.fox2code.foxevents.benchmark;
 
+import com.fox2code.foxevents.DispatchStrategy;
 import com.fox2code.foxevents.EventCallback;
+import com.fox2code.foxevents.EventHolder;
+import com.fox2code.foxevents.EventRegistration;
 import com.fox2code.foxevents.EventRegistrationException;
-import com.fox2code.foxevents.FoxEvents;
 import com.fox2code.foxevents.FoxEventsImpl;
 import com.fox2code.foxevents.unsafe.UnsafeFoxEvents;
 import com.fox2code.foxevents.unsafe.UnsafeFoxEventsImpl;
@@ -21,6 +23,7 @@ public class BenchmarkFoxEventsImpl extends UnsafeFoxEvents {
     public BenchmarkFoxEventsImpl() {}
 
     private boolean unsafeMode;
+    private DispatchStrategy dispatchStrategy = DispatchStrategy.DEFAULT;
 
     @Override
     public void registerEvents(@NotNull Object handler) throws EventRegistrationException {
@@ -41,16 +44,34 @@ public class BenchmarkFoxEventsImpl extends UnsafeFoxEvents {
         }
     }
 
+    @Override
+    public @NotNull EventRegistration registerEventsHandle(
+            @NotNull Object handler, @Nullable BooleanSupplier validator) throws EventRegistrationException {
+        return this.registerEventCallbacks(this.unsafeMode ?
+                this.getEventCallbacksUnsafe(handler, validator) :
+                this.getEventCallbacks(handler, validator));
+    }
+
     @Override
     public void unregisterEvents(@NotNull Object handler) {
-        if (handler.getClass().getClassLoader() != FoxEvents.class.getClassLoader()) {
-            // Cross class loader unregister is a bit iffy, but implementation can always be overridden.
-            throw new IllegalArgumentException("Handler doesn't use same class loader as FoxEvents");
-        }
-        this.unregisterEventsForClassLoader(FoxEvents.class.getClassLoader(), handler);
+        this.unregisterEventsFromOwner(handler);
+    }
+
+    @Override
+    public @NotNull DispatchStrategy getDispatchStrategy(@NotNull EventHolder<?> eventHolder) {
+        return this.dispatchStrategy;
     }
 
     public void setUnsafeMode(boolean unsafeMode) {
         this.unsafeMode = unsafeMode;
     }
+
+    public void setDispatchStrategy(@NotNull DispatchStrategy dispatchStrategy) {
+        this.dispatchStrategy = dispatchStrategy;
+        this.invalidateBakedCallbacks();
+    }
+
+    public void invalidateValidators() {
+        this.invalidateCallbackValidators();
+    }
 }
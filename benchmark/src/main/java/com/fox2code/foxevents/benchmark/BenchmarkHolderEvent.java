@@ -0,0 +1,17 @@
+package com.fox2code.foxevents.benchmark;
+
+import com.fox2code.foxevents.Event;
+import com.fox2code.foxevents.EventHolder;
+
+/**
+ * Sample event for benchmarking, providing its holder at construction.
+ * @since 1.4.0
+ */
+public class BenchmarkHolderEvent extends Event {
+    public static final EventHolder<BenchmarkHolderEvent> HOLDER =
+            EventHolder.getHolderFromEvent(BenchmarkHolderEvent.class);
+
+    public BenchmarkHolderEvent() {
+        super(HOLDER);
+    }
+}
@@ -24,6 +24,8 @@ public final class FoxEventsBenchmark {
                 EventHolder.getHolderFromEvent(BenchmarkSampleEvent.class);
         this.runBenchmarkImpl(null, 1);
         this.runBenchmarkImpl(null, 10);
+        this.runBenchmarkProvidedImpl(1);
+        this.runBenchmarkProvidedImpl(10);
         this.warmUpNanos = System.nanoTime() - startNanos;
     }
 
@@ -39,6 +41,12 @@ public final class FoxEventsBenchmark {
         return System.nanoTime() - startNanos;
     }
 
+    public long runBenchmarkProvided() {
+        long startNanos = System.nanoTime();
+        this.runBenchmarkProvidedImpl(this.benchmarkTimes);
+        return System.nanoTime() - startNanos;
+    }
+
     public long runBenchmarkOptimal() {
         long startNanos = System.nanoTime();
         this.runBenchmarkOptimalImpl(null, this.benchmarkTimes);
@@ -63,6 +71,17 @@ public final class FoxEventsBenchmark {
         }
     }
 
+    private void runBenchmarkProvidedImpl(int count) {
+        TestHandler.INSTANCE.counter = -count;
+        TestHandler.INSTANCE.cancelledCounter = -count;
+        while (count-->0) {
+            new BenchmarkHolderEvent().callEvent();
+        }
+        if (TestHandler.INSTANCE.counter != 0 || TestHandler.INSTANCE.cancelledCounter != 0) {
+            throw new RuntimeException("Counter issue!");
+        }
+    }
+
     private void runBenchmarkOptimalImpl(BenchmarkSampleEvent benchmarkSampleEvent, int count) {
         TestHandler.INSTANCE.counter = benchmarkSampleEvent != null &&
                 benchmarkSampleEvent.isCancelled() ? 0 : -count;
@@ -98,12 +117,28 @@ public final class FoxEventsBenchmark {
             this.cancelledCounter++;
         }
 
+        @EventHandler
+        public void onReceiveHolderEvent(BenchmarkHolderEvent event) {
+            this.counter++;
+        }
+
+        @EventHandler(ignoreCancelled = true)
+        public void onReceiveHolderEventCancelled(BenchmarkHolderEvent event) {
+            this.cancelledCounter++;
+        }
+
         public static class PassiveHandler {
             @EventHandler
             public static void onReceiveEvent(BenchmarkSampleEvent event) {}
 
             @EventHandler(ignoreCancelled = true)
             public static void onReceiveEventCancelled(BenchmarkSampleEvent event) {}
+
+            @EventHandler
+            public static void onReceiveHolderEvent(BenchmarkHolderEvent event) {}
+
+            @EventHandler(ignoreCancelled = true)
+            public static void onReceiveHolderEventCancelled(BenchmarkHolderEvent event) {}
         }
     }
 }
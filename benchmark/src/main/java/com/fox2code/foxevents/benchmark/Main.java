@@ -1,7 +1,16 @@
 package com.fox2code.foxevents.benchmark;
 
+import com.fox2code.foxevents.DispatchStrategy;
 import com.fox2code.foxevents.FoxEvents;
 
+import java.util.Locale;
+
+/**
+ * Legacy hand-timed benchmark, still the jar entry point for compatibility.
+ *
+ * @deprecated results are not reliable, use the JMH suite with {@code ./gradlew :benchmark:jmh} instead.
+ */
+@Deprecated
 public final class Main {
     static {
         FoxEvents.setFoxEvents(BenchmarkFoxEventsImpl.INSTANCE);
@@ -15,10 +24,16 @@ public final class Main {
             BenchmarkFoxEventsImpl.INSTANCE.setUnsafeMode(false);
             System.out.println("Running normal FoxEvents benchmark");
         }
+        if (args.length >= 2) {
+            DispatchStrategy dispatchStrategy = DispatchStrategy.valueOf(args[1].toUpperCase(Locale.ROOT));
+            BenchmarkFoxEventsImpl.INSTANCE.setDispatchStrategy(dispatchStrategy);
+            System.out.println("Using " + dispatchStrategy.name() + " dispatch strategy");
+        }
         FoxEventsBenchmark foxEventsBenchmark = new FoxEventsBenchmark();
         System.out.println("Running warm up");
         foxEventsBenchmark.runBenchmark();
         foxEventsBenchmark.runBenchmark(new BenchmarkSampleEvent());
+        foxEventsBenchmark.runBenchmarkProvided();
         foxEventsBenchmark.runBenchmarkOptimal();
         Runtime.getRuntime().gc();
         try {
@@ -38,7 +53,8 @@ public final class Main {
             runs++;
         }
         System.out.println("Benchmark results: " + nsToMsStr(benchmarkResults.nsBenchmark2) + " | " +
-                nsToMsStr(benchmarkResults.nsBenchmarkSme2) + " | " + nsToMsStr(benchmarkResults.nsBenchmarkOpt2));
+                nsToMsStr(benchmarkResults.nsBenchmarkSme2) + " | " + nsToMsStr(benchmarkResults.nsBenchmarkPrv2) +
+                " | " + nsToMsStr(benchmarkResults.nsBenchmarkOpt2));
         System.out.println("Executed runs: " + runs);
     }
 
@@ -47,6 +63,8 @@ public final class Main {
         benchmarkResults.addBenchmark(foxEventsBenchmark.runBenchmark());
         System.out.println("Running un-cached callEvent, singleton event benchmark");
         benchmarkResults.addBenchmarkSme(foxEventsBenchmark.runBenchmark(new BenchmarkSampleEvent()));
+        System.out.println("Running holder provided callEvent, new event benchmark");
+        benchmarkResults.addBenchmarkPrv(foxEventsBenchmark.runBenchmarkProvided());
         System.out.println("Running cached callEvent, new event benchmark");
         benchmarkResults.addBenchmarkOpt(foxEventsBenchmark.runBenchmarkOptimal());
     }
@@ -60,6 +78,8 @@ public final class Main {
         long nsBenchmark2 = Long.MAX_VALUE;
         long nsBenchmarkSme1 = Long.MAX_VALUE;
         long nsBenchmarkSme2 = Long.MAX_VALUE;
+        long nsBenchmarkPrv1 = Long.MAX_VALUE;
+        long nsBenchmarkPrv2 = Long.MAX_VALUE;
         long nsBenchmarkOpt1 = Long.MAX_VALUE;
         long nsBenchmarkOpt2 = Long.MAX_VALUE;
 
@@ -81,6 +101,15 @@ public final class Main {
             }
         }
 
+        void addBenchmarkPrv(long nsBenchmarkPrv) {
+            if (this.nsBenchmarkPrv1 > nsBenchmarkPrv) {
+                this.nsBenchmarkPrv2 = this.nsBenchmarkPrv1;
+                this.nsBenchmarkPrv1 = nsBenchmarkPrv;
+            } else  if (this.nsBenchmarkPrv2 > nsBenchmarkPrv) {
+                this.nsBenchmarkPrv2 = nsBenchmarkPrv;
+            }
+        }
+
         void addBenchmarkOpt(long nsBenchmarkOpt) {
             if (this.nsBenchmarkOpt1 > nsBenchmarkOpt) {
                 this.nsBenchmarkOpt2 = this.nsBenchmarkOpt1;
@@ -0,0 +1,27 @@
+package com.fox2code.foxevents;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Default executors used for asynchronous dispatch.
+ * <p>
+ * Java 21+ use virtual threads instead, via the multi-release jar.
+ */
+final class AsyncExecutors {
+    static final Executor DEFAULT_EXECUTOR = newDefaultExecutor();
+
+    private AsyncExecutors() {}
+
+    private static ExecutorService newDefaultExecutor() {
+        final AtomicInteger counter = new AtomicInteger();
+        // Event handlers may block, so use a cached thread pool instead of the common pool
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "FoxEvents Async #" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,141 @@
+package com.fox2code.foxevents;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dispatch metrics of an {@link EventHolder} or an {@link EventCallback}, only collected for
+ * holders where {@link FoxEvents#isMetricsEnabled(EventHolder)} returned {@code true} when baked.
+ * <p>
+ * Counters are striped, so concurrent dispatches don't contend on them.
+ *
+ * @since 1.4.0
+ */
+public final class DispatchMetrics {
+    static final boolean ENABLED = Boolean.getBoolean("foxevents.metrics");
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAdder cancellations = new LongAdder();
+    private final LongAdder exceptions = new LongAdder();
+
+    DispatchMetrics() {}
+
+    void record(long nanos, boolean cancelled) {
+        this.calls.increment();
+        this.totalNanos.add(nanos);
+        this.maxNanos.accumulate(nanos);
+        if (cancelled) {
+            this.cancellations.increment();
+        }
+    }
+
+    void recordException() {
+        this.exceptions.increment();
+    }
+
+    /**
+     * @return a snapshot of the current metrics, counters are read one at a time,
+     * so the snapshot may be slightly inconsistent under concurrent dispatches
+     * @since 1.4.0
+     */
+    @Contract(pure = true)
+    public @NotNull Snapshot snapshot() {
+        return new Snapshot(this.calls.sum(), this.totalNanos.sum(), this.maxNanos.get(),
+                this.cancellations.sum(), this.exceptions.sum());
+    }
+
+    /**
+     * Reset all metrics
+     *
+     * @since 1.4.0
+     */
+    public void reset() {
+        this.calls.reset();
+        this.totalNanos.reset();
+        this.maxNanos.reset();
+        this.cancellations.reset();
+        this.exceptions.reset();
+    }
+
+    /**
+     * Immutable snapshot of {@link DispatchMetrics}
+     *
+     * @since 1.4.0
+     */
+    public static final class Snapshot {
+        private final long calls;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long cancellations;
+        private final long exceptions;
+
+        Snapshot(long calls, long totalNanos, long maxNanos, long cancellations, long exceptions) {
+            this.calls = calls;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.cancellations = cancellations;
+            this.exceptions = exceptions;
+        }
+
+        /**
+         * @return the number of dispatched events, or of callback calls
+         * @since 1.4.0
+         */
+        public long getCalls() {
+            return this.calls;
+        }
+
+        /**
+         * @return the cumulative time spent dispatching, in nanoseconds
+         * @since 1.4.0
+         */
+        public long getTotalNanos() {
+            return this.totalNanos;
+        }
+
+        /**
+         * @return the longest time spent in a single dispatch, in nanoseconds
+         * @since 1.4.0
+         */
+        public long getMaxNanos() {
+            return this.maxNanos;
+        }
+
+        /**
+         * @return the average time spent in a single dispatch, in nanoseconds
+         * @since 1.4.0
+         */
+        public long getAverageNanos() {
+            return this.calls == 0 ? 0 : this.totalNanos / this.calls;
+        }
+
+        /**
+         * @return the number of events that ended cancelled, for callbacks,
+         * the number of calls that cancelled the event
+         * @since 1.4.0
+         */
+        public long getCancellations() {
+            return this.cancellations;
+        }
+
+        /**
+         * @return the number of exceptions thrown by callbacks
+         * @since 1.4.0
+         */
+        public long getExceptions() {
+            return this.exceptions;
+        }
+
+        @Override
+        public String toString() {
+            return "DispatchMetrics.Snapshot{calls=" + this.calls + ", totalNanos=" + this.totalNanos +
+                    ", maxNanos=" + this.maxNanos + ", cancellations=" + this.cancellations +
+                    ", exceptions=" + this.exceptions + "}";
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.fox2code.foxevents;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Strategy used by {@link EventHolder} to dispatch events to its baked callbacks.
+ * <p>
+ * The default strategy can be set with the {@code foxevents.dispatch-strategy} system property,
+ * or per event holder by overriding {@link FoxEvents#getDispatchStrategy(EventHolder)}.
+ *
+ * @since 1.4.0
+ */
+public enum DispatchStrategy {
+    /**
+     * Loop over the baked callbacks array, this is the default strategy.
+     *
+     * @since 1.4.0
+     */
+    LOOP {
+        @Override
+        @Nullable EventDispatcher makeDispatcher(
+                @NotNull EventHolder<?> eventHolder, @NotNull EventCallback[] eventCallbacks,
+                boolean skipOnCancelled) {
+            return null;
+        }
+    },
+    /**
+     * Generate a class per baked event holder with a direct call to each callback,
+     * priority order and cancellation checks are built into the generated class.
+     * <p>
+     * Fallback to {@link #LOOP} if the class can't be generated.
+     *
+     * @since 1.4.0
+     */
+    GENERATED {
+        @Override
+        @Nullable EventDispatcher makeDispatcher(
+                @NotNull EventHolder<?> eventHolder, @NotNull EventCallback[] eventCallbacks,
+                boolean skipOnCancelled) {
+            return EventDispatcherGenerator.generate(eventHolder, eventCallbacks, skipOnCancelled);
+        }
+    },
+    /**
+     * Compose the baked callbacks into a single {@link java.lang.invoke.MethodHandle} tree.
+     * <p>
+     * HotSpot can only inline the whole callback chain when events are dispatched through
+     * {@link EventHolder#getDispatchHandle()} stored in a {@code static final} field,
+     * {@link EventHolder#callEvent(Event)} reach the tree through the baked callbacks,
+     * so the tree is never a JIT constant there, even if the holder is.
+     *
+     * @since 1.4.0
+     */
+    METHOD_HANDLE_TREE {
+        @Override
+        @Nullable EventDispatcher makeDispatcher(
+                @NotNull EventHolder<?> eventHolder, @NotNull EventCallback[] eventCallbacks,
+                boolean skipOnCancelled) {
+            return MethodHandleEventDispatcher.make(eventCallbacks, skipOnCancelled);
+        }
+    },
+    /**
+     * Split the baked callbacks across the {@link java.util.concurrent.ForkJoinPool#commonPool()},
+     * and join before returning, callbacks may be called in any order.
+     * <p>
+     * Only applies to events that are not cancellable, and with at least as many callbacks as
+     * the {@code foxevents.parallel-threshold} system property (64 by default),
+     * fallback to {@link #LOOP} otherwise.
+     * <p>
+     * Used by default for {@link Event.ParallelEvent} events.
+     *
+     * @since 1.4.0
+     */
+    PARALLEL {
+        @Override
+        @Nullable EventDispatcher makeDispatcher(
+                @NotNull EventHolder<?> eventHolder, @NotNull EventCallback[] eventCallbacks,
+                boolean skipOnCancelled) {
+            if (eventHolder.isCancellable() || eventCallbacks.length < ParallelEventDispatcher.THRESHOLD) {
+                return null;
+            }
+            return new ParallelEventDispatcher(eventCallbacks, skipOnCancelled);
+        }
+    };
+
+    /**
+     * Default strategy, as defined by the {@code foxevents.dispatch-strategy} system property.
+     *
+     * @since 1.4.0
+     */
+    public static final DispatchStrategy DEFAULT = fromProperty(System.getProperty("foxevents.dispatch-strategy"));
+
+    /**
+     * @param eventHolder the event holder being baked
+     * @param eventCallbacks the baked callbacks, in dispatch order
+     * @param skipOnCancelled if no callbacks should be called once the event is cancelled
+     * @return the dispatcher, or {@code null} to use the baked callbacks loop
+     */
+    abstract @Nullable EventDispatcher makeDispatcher(
+            @NotNull EventHolder<?> eventHolder, @NotNull EventCallback[] eventCallbacks,
+            boolean skipOnCancelled);
+
+    private static DispatchStrategy fromProperty(String property) {
+        if (property == null || property.isEmpty()) return LOOP;
+        try {
+            return DispatchStrategy.valueOf(property.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            FoxEvents.LOGGER.warning("Unknown dispatch strategy " + property + ", using " + LOOP.name());
+            return LOOP;
+        }
+    }
+}
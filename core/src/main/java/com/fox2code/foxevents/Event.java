@@ -1,6 +1,7 @@
 package com.fox2code.foxevents;
 
 import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -13,6 +14,7 @@ import java.lang.annotation.Target;
  */
 public abstract class Event {
     private EventHolder<?> initializingHolder;
+    byte poolState;
     /**
      * Tell if event is cancelled, this is only for use by the instantiated event itself
      *
@@ -24,6 +26,21 @@ public abstract class Event {
 
     public Event() {}
 
+    /**
+     * Allow events to provide their event holder at construction, usually from a static field,
+     * so new instances don't need to resolve it on {@link #callEvent()}.
+     * <p>
+     * If the event holder does not match the event, it will be safely ignored.
+     *
+     * @param eventHolder the event holder matching this event
+     * @since 1.4.0
+     */
+    protected Event(@Nullable EventHolder<?> eventHolder) {
+        if (eventHolder != null && eventHolder.peekEvent() == this.getClass()) {
+            this.initializingHolder = eventHolder;
+        }
+    }
+
     /**
      * A hook to allow to provide an event holder in a more efficient way, if the returned
      * result is {@code null} or does not match the event, it will be safely ignored.
@@ -106,4 +123,15 @@ public abstract class Event {
     @Retention(RetentionPolicy.RUNTIME)
     @Target(ElementType.TYPE)
     public @interface DelegateEvent {}
+
+    /**
+     * When used on an event that isn't {@link Cancellable}, tell FoxEvents that listeners
+     * are independent of each other, and may be called in parallel, in any order.
+     *
+     * @see DispatchStrategy#PARALLEL
+     * @since 1.4.0
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE)
+    public @interface ParallelEvent {}
 }
@@ -4,29 +4,88 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 /**
- * Represent a method with {@link EventHandler} registered via a {@link #holder}
+ * Represent a method with {@link EventHandler} registered via a {@link #getHolder() holder}
  */
 public final class EventCallback {
     public final EventHolder<?> eventHolder;
+    /**
+     * The instance holding the event handler, or {@code null} if the handler is static.
+     * <p>
+     * Since 1.4.0, this is also {@code null} for weak event callbacks, as they must not
+     * strongly reference their holder.
+     *
+     * @deprecated use {@link #getHolder()} instead, which also return the holder of weak event callbacks.
+     */
+    @Deprecated
     public final Object holder;
+    private static final MethodType LAMBDA_SAM_TYPE = MethodType.methodType(void.class, Object.class);
+    static final AtomicIntegerFieldUpdater<EventCallback> REGISTERED_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(EventCallback.class, "registered");
+    private static final AtomicReferenceFieldUpdater<EventCallback, DispatchMetrics> METRICS_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(EventCallback.class, DispatchMetrics.class, "metrics");
     final MethodHandle eventCallback;
+    final Consumer<Event> eventInvoker;
     public final boolean ignoreCancelled;
     public final int priority;
     public final BooleanSupplier validator;
+    public final String asyncExecutor;
+    final WeakEventListener weakHolder;
+    volatile int registered;
+    // Consecutive sampled calls over the slow listener budget, updated with SlowListenerEventDispatcher
+    volatile int slowStrikes;
+    private volatile DispatchMetrics metrics;
+    // Unique id of the callback in the EventRegistry, 0 until first needed
+    volatile long listenerId;
 
     EventCallback(EventHolder<?> eventHolder, Object holder, MethodHandle eventCallback,
                          boolean ignoreCancelled, int priority, BooleanSupplier validator) {
+        this(eventHolder, holder, eventCallback, null, ignoreCancelled, priority, validator);
+    }
+
+    EventCallback(EventHolder<?> eventHolder, Object holder, MethodHandle eventCallback,
+                  Consumer<Event> eventInvoker, boolean ignoreCancelled, int priority, BooleanSupplier validator) {
+        this(eventHolder, holder, eventCallback, eventInvoker, ignoreCancelled, priority, validator, null);
+    }
+
+    EventCallback(EventHolder<?> eventHolder, Object holder, MethodHandle eventCallback, Consumer<Event> eventInvoker,
+                  boolean ignoreCancelled, int priority, BooleanSupplier validator, String asyncExecutor) {
         this.eventHolder = eventHolder;
         this.holder = holder;
         this.eventCallback = eventCallback;
+        this.eventInvoker = eventInvoker;
         this.ignoreCancelled = ignoreCancelled;
         this.priority = priority;
         this.validator = validator;
+        this.asyncExecutor = asyncExecutor;
+        this.weakHolder = null;
+    }
+
+    EventCallback(EventHolder<?> eventHolder, WeakEventListener weakHolder, boolean ignoreCancelled,
+                  int priority, BooleanSupplier validator, String asyncExecutor) {
+        this.eventHolder = eventHolder;
+        this.holder = null;
+        this.eventCallback = weakHolder.asEventCallback();
+        this.eventInvoker = null;
+        this.ignoreCancelled = ignoreCancelled;
+        this.priority = priority;
+        this.validator = validator;
+        this.asyncExecutor = asyncExecutor;
+        this.weakHolder = weakHolder;
+        weakHolder.eventCallback = this;
     }
 
     /**
@@ -36,8 +95,61 @@ public final class EventCallback {
      */
     @Contract(pure = true)
     public @NotNull EventCallback withValidator(@Nullable BooleanSupplier validator) {
-        return new EventCallback(this.eventHolder, holder,
-                this.eventCallback, this.ignoreCancelled, this.priority, validator);
+        if (this.weakHolder != null) {
+            return new EventCallback(this.eventHolder, this.weakHolder.copy(),
+                    this.ignoreCancelled, this.priority, validator, this.asyncExecutor);
+        }
+        return new EventCallback(this.eventHolder, holder, this.eventCallback,
+                this.eventInvoker, this.ignoreCancelled, this.priority, validator, this.asyncExecutor);
+    }
+
+    /**
+     * @return the instance holding the event handler, or {@code null} if the handler
+     * is static, or if the instance of a weak event callback has been collected
+     * @since 1.4.0
+     */
+    @Contract(pure = true)
+    public @Nullable Object getHolder() {
+        WeakEventListener weakHolder = this.weakHolder;
+        return weakHolder == null ? this.holder : weakHolder.get();
+    }
+
+    /**
+     * @return if the current EventCallback is called on its {@link #asyncExecutor}
+     * after the synchronous callbacks have been called
+     * @since 1.4.0
+     */
+    @Contract(pure = true)
+    public boolean isAsync() {
+        return this.asyncExecutor != null;
+    }
+
+    /**
+     * @return the dispatch metrics of this callback, or {@code null} if its holder
+     * never had metrics enabled since it was registered
+     * @see FoxEvents#isMetricsEnabled(EventHolder)
+     * @since 1.4.0
+     */
+    public @Nullable DispatchMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    DispatchMetrics getOrCreateMetrics() {
+        DispatchMetrics metrics = this.metrics;
+        if (metrics == null) {
+            METRICS_UPDATER.compareAndSet(this, null, new DispatchMetrics());
+            metrics = this.metrics;
+        }
+        return metrics;
+    }
+
+    /**
+     * @return if the current EventCallback only weakly reference its holder
+     * @since 1.4.0
+     */
+    @Contract(pure = true)
+    public boolean isWeak() {
+        return this.weakHolder != null;
     }
 
     /**
@@ -67,11 +179,76 @@ public final class EventCallback {
         this.callForEventRaw(event);
     }
 
+    /**
+     * @return if the current EventCallback is backed by a {@link LambdaMetafactory} generated invoker
+     * @since 1.4.0
+     */
+    public boolean isLambdaBacked() {
+        return this.eventInvoker != null;
+    }
+
     void callForEventRaw(@NotNull Event event) {
         try {
-            this.eventCallback.invoke(event);
+            this.invokeRaw(event);
         } catch (Throwable t) {
             FoxEvents.getFoxEventsSoft().onEventError(event, this, t);
         }
     }
+
+    void invokeRaw(@NotNull Event event) throws Throwable {
+        Consumer<Event> eventInvoker = this.eventInvoker;
+        if (eventInvoker != null) {
+            eventInvoker.accept(event);
+        } else {
+            this.eventCallback.invoke(event);
+        }
+    }
+
+    /**
+     * Make a {@link LambdaMetafactory} factory turning an event handler method into a {@link Consumer}.
+     *
+     * @param lookup the lookup used to resolve the method, must have private access
+     * @param method the event handler method
+     * @param methodHandle the unbound direct method handle of the method
+     * @return the factory, taking the instance to capture if the method isn't static,
+     * or {@code null} if the lookup doesn't allow to make one
+     */
+    static @Nullable MethodHandle makeLambdaFactory(
+            @NotNull MethodHandles.Lookup lookup, @NotNull Method method, @NotNull MethodHandle methodHandle) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (lookup.lookupClass() != declaringClass) {
+            // Try to define the lambda next to the handler, so non-public handlers can be used
+            MethodHandles.Lookup declaringLookup = lookup.in(declaringClass);
+            if ((declaringLookup.lookupModes() & MethodHandles.Lookup.PRIVATE) != 0) {
+                lookup = declaringLookup;
+            } else if (!Modifier.isPublic(declaringClass.getModifiers())) {
+                return null;
+            }
+        }
+        try {
+            MethodType factoryType = Modifier.isStatic(method.getModifiers()) ?
+                    MethodType.methodType(Consumer.class) :
+                    MethodType.methodType(Consumer.class, declaringClass);
+            CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept", factoryType,
+                    LAMBDA_SAM_TYPE, methodHandle, MethodType.methodType(void.class, method.getParameterTypes()[0]));
+            return callSite.getTarget();
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
+    /**
+     * @param lambdaFactory the factory made by {@link #makeLambdaFactory(MethodHandles.Lookup, Method, MethodHandle)}
+     * @param instance the instance to capture, or {@code null} if the method is static
+     * @return the invoker, or {@code null} if the factory failed
+     */
+    @SuppressWarnings("unchecked")
+    static @Nullable Consumer<Event> makeLambdaInvoker(
+            @NotNull MethodHandle lambdaFactory, @Nullable Object instance) {
+        try {
+            return (Consumer<Event>) (instance == null ? lambdaFactory.invoke() : lambdaFactory.invoke(instance));
+        } catch (Throwable t) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,79 @@
+package com.fox2code.foxevents;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Baked dispatcher of an {@link EventHolder}, built by a {@link DispatchStrategy}
+ * each time the holder callbacks are re-baked.
+ * <p>
+ * This class is only public so generated dispatchers can extend it.
+ *
+ * @since 1.4.0
+ */
+@ApiStatus.Internal
+public abstract class EventDispatcher {
+    private static final MethodHandle DISPATCH;
+
+    static {
+        try {
+            DISPATCH = MethodHandles.lookup().findVirtual(EventDispatcher.class, "dispatch",
+                    MethodType.methodType(void.class, Event.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    final EventCallback[] eventCallbacks;
+
+    /**
+     * @param eventCallbacks the baked callbacks, in dispatch order
+     * @since 1.4.0
+     */
+    protected EventDispatcher(@NotNull EventCallback[] eventCallbacks) {
+        this.eventCallbacks = eventCallbacks;
+    }
+
+    /**
+     * Dispatch the event to the baked callbacks
+     *
+     * @param event to dispatch
+     * @since 1.4.0
+     */
+    public abstract void dispatch(@NotNull Event event);
+
+    /**
+     * @return a {@code (Event)void} method handle dispatching to this dispatcher
+     */
+    MethodHandle asMethodHandle() {
+        return DISPATCH.bindTo(this);
+    }
+
+    /**
+     * Called by dispatchers when a callback failed
+     *
+     * @param throwable error
+     * @param event the event
+     * @param index index of the callback that caused the error
+     * @since 1.4.0
+     */
+    protected final void onCallbackError(@NotNull Throwable throwable, @NotNull Event event, int index) {
+        FoxEvents.getFoxEventsSoft().onEventError(event, this.eventCallbacks[index], throwable);
+    }
+
+    /**
+     * Used by generated dispatchers to initialize their constant callbacks.
+     *
+     * @param generatedClass the generated dispatcher class
+     * @return the method handles or lambda invokers to use as constant callbacks
+     * @since 1.4.0
+     */
+    protected static Object[] getGeneratedConstants(@NotNull Class<?> generatedClass) {
+        return ((EventDispatcherGenerator.GeneratedClassLoader)
+                generatedClass.getClassLoader()).constants;
+    }
+}
@@ -0,0 +1,362 @@
+package com.fox2code.foxevents;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * Generate a class per baked event holder, each callback is stored in a {@code static final}
+ * {@link MethodHandle} or lambda invoker field, allowing the JIT to inline callbacks into
+ * the generated dispatcher.
+ * <p>
+ * Each generated class has its own class loader, so it can be unloaded once re-baked.
+ */
+final class EventDispatcherGenerator {
+    // Keep generated methods under the JIT huge method limit.
+    static final int MAX_GENERATED_CALLBACKS = 256;
+    private static final MethodType DISPATCH_TYPE = MethodType.methodType(void.class, Event.class);
+    private static final AtomicInteger generatedCount = new AtomicInteger();
+    private static final String DISPATCHER = "com/fox2code/foxevents/EventDispatcher";
+    private static final String EVENT = "com/fox2code/foxevents/Event";
+    private static final String METHOD_HANDLE = "java/lang/invoke/MethodHandle";
+    private static final String CONSUMER = "java/util/function/Consumer";
+    private static final String THROWABLE = "java/lang/Throwable";
+    private static final String CALLBACKS_DESC = "([Lcom/fox2code/foxevents/EventCallback;)V";
+    // Length of the callback calls and of the error handler in the dispatch method
+    private static final int HANDLE_CALL_LENGTH = 3 + 1 + 3, INVOKER_CALL_LENGTH = 3 + 1 + 5,
+            HANDLER_LENGTH = 1 + 1 + 1 + 3 + 3;
+    private static final int ACC_PUBLIC = 0x0001, ACC_PRIVATE = 0x0002, ACC_STATIC = 0x0008,
+            ACC_FINAL = 0x0010, ACC_SUPER = 0x0020, ACC_SYNTHETIC = 0x1000;
+
+    private EventDispatcherGenerator() {}
+
+    static EventDispatcher generate(EventHolder<?> eventHolder,
+                                    EventCallback[] eventCallbacks, boolean skipOnCancelled) {
+        if (eventCallbacks.length == 0 || eventCallbacks.length > MAX_GENERATED_CALLBACKS) {
+            return null;
+        }
+        Object[] constants = new Object[eventCallbacks.length];
+        for (int i = 0; i < eventCallbacks.length; i++) {
+            EventCallback eventCallback = eventCallbacks[i];
+            constants[i] = eventCallback.eventInvoker != null ? eventCallback.eventInvoker :
+                    eventCallback.eventCallback.asType(DISPATCH_TYPE);
+        }
+        String className = DISPATCHER + "$Generated$" + generatedCount.incrementAndGet();
+        try {
+            byte[] classData = generateClassData(className, eventCallbacks, skipOnCancelled);
+            GeneratedClassLoader classLoader = new GeneratedClassLoader(constants);
+            Class<?> generatedClass = classLoader.define(className.replace('/', '.'), classData);
+            return (EventDispatcher) generatedClass.getConstructor(EventCallback[].class)
+                    .newInstance((Object) eventCallbacks);
+        } catch (ReflectiveOperationException | LinkageError | SecurityException | IOException e) {
+            FoxEvents.LOGGER.log(Level.WARNING, "Failed to generate dispatcher for " +
+                    eventHolder.getEventName() + ", falling back to the default loop", e);
+            return null;
+        }
+    }
+
+    private static byte[] generateClassData(String className, EventCallback[] eventCallbacks,
+                                            boolean skipOnCancelled) throws IOException {
+        ConstantPool pool = new ConstantPool();
+        int thisClass = pool.classRef(className);
+        int superClass = pool.classRef(DISPATCHER);
+        int throwableClass = pool.classRef(THROWABLE);
+        int superInit = pool.methodRef(DISPATCHER, "<init>", CALLBACKS_DESC);
+        int getGeneratedConstants = pool.methodRef(DISPATCHER, "getGeneratedConstants",
+                "(Ljava/lang/Class;)[Ljava/lang/Object;");
+        int methodHandleClass = pool.classRef(METHOD_HANDLE);
+        int consumerClass = pool.classRef(CONSUMER);
+        int onCallbackError = pool.methodRef(DISPATCHER, "onCallbackError",
+                "(Ljava/lang/Throwable;Lcom/fox2code/foxevents/Event;I)V");
+        int isCancelled = pool.methodRef(EVENT, "isCancelled", "()Z");
+        int invokeExact = pool.methodRef(METHOD_HANDLE, "invokeExact", "(Lcom/fox2code/foxevents/Event;)V");
+        int accept = pool.interfaceMethodRef(CONSUMER, "accept", "(Ljava/lang/Object;)V");
+        boolean[] invokers = new boolean[eventCallbacks.length];
+        int[] fields = new int[eventCallbacks.length];
+        for (int i = 0; i < fields.length; i++) {
+            invokers[i] = eventCallbacks[i].eventInvoker != null;
+            fields[i] = pool.fieldRef(className, "h" + i, invokers[i] ?
+                    "Ljava/util/function/Consumer;" : "Ljava/lang/invoke/MethodHandle;");
+        }
+        int handleDescriptor = pool.utf8("Ljava/lang/invoke/MethodHandle;");
+        int invokerDescriptor = pool.utf8("Ljava/util/function/Consumer;");
+        int[] fieldNames = new int[eventCallbacks.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldNames[i] = pool.utf8("h" + i);
+        }
+        int initName = pool.utf8("<init>");
+        int initDescriptor = pool.utf8(CALLBACKS_DESC);
+        int clinitName = pool.utf8("<clinit>");
+        int clinitDescriptor = pool.utf8("()V");
+        int dispatchName = pool.utf8("dispatch");
+        int dispatchDescriptor = pool.utf8("(Lcom/fox2code/foxevents/Event;)V");
+        int codeAttribute = pool.utf8("Code");
+        int stackMapTableAttribute = pool.utf8("StackMapTable");
+
+        // Constructor
+        ByteArrayOutputStream initCode = new ByteArrayOutputStream();
+        DataOutputStream init = new DataOutputStream(initCode);
+        init.writeByte(0x2a); // aload_0
+        init.writeByte(0x2b); // aload_1
+        init.writeByte(0xb7); // invokespecial
+        init.writeShort(superInit);
+        init.writeByte(0xb1); // return
+
+        // Static initializer
+        ByteArrayOutputStream clinitCode = new ByteArrayOutputStream();
+        DataOutputStream clinit = new DataOutputStream(clinitCode);
+        clinit.writeByte(0x12); // ldc
+        clinit.writeByte(checkLdc(thisClass));
+        clinit.writeByte(0xb8); // invokestatic
+        clinit.writeShort(getGeneratedConstants);
+        for (int i = 0; i < fields.length; i++) {
+            clinit.writeByte(0x59); // dup
+            clinit.writeByte(0x11); // sipush
+            clinit.writeShort(i);
+            clinit.writeByte(0x32); // aaload
+            clinit.writeByte(0xc0); // checkcast
+            clinit.writeShort(invokers[i] ? consumerClass : methodHandleClass);
+            clinit.writeByte(0xb3); // putstatic
+            clinit.writeShort(fields[i]);
+        }
+        clinit.writeByte(0x57); // pop
+        clinit.writeByte(0xb1); // return
+
+        // Dispatch method, locals are always [this, event]
+        ByteArrayOutputStream dispatchCode = new ByteArrayOutputStream();
+        DataOutputStream dispatch = new DataOutputStream(dispatchCode);
+        ByteArrayOutputStream exceptionTableData = new ByteArrayOutputStream();
+        DataOutputStream exceptionTable = new DataOutputStream(exceptionTableData);
+        // offset -> true if the frame has a Throwable on the stack
+        TreeMap<Integer, Boolean> frames = new TreeMap<>();
+        for (int i = 0; i < eventCallbacks.length; i++) {
+            if (skipOnCancelled) {
+                dispatch.writeByte(0x2b); // aload_1
+                dispatch.writeByte(0xb6); // invokevirtual
+                dispatch.writeShort(isCancelled);
+                dispatch.writeByte(0x99); // ifeq
+                dispatch.writeShort(3 + 1);
+                dispatch.writeByte(0xb1); // return
+                frames.put(dispatch.size(), false);
+            } else if (!eventCallbacks[i].ignoreCancelled) {
+                dispatch.writeByte(0x2b); // aload_1
+                dispatch.writeByte(0xb6); // invokevirtual
+                dispatch.writeShort(isCancelled);
+                dispatch.writeByte(0x9a); // ifne
+                dispatch.writeShort(3 + (invokers[i] ? INVOKER_CALL_LENGTH :
+                        HANDLE_CALL_LENGTH) + 3 + HANDLER_LENGTH);
+            }
+            int tryStart = dispatch.size();
+            dispatch.writeByte(0xb2); // getstatic
+            dispatch.writeShort(fields[i]);
+            dispatch.writeByte(0x2b); // aload_1
+            if (invokers[i]) {
+                dispatch.writeByte(0xb9); // invokeinterface
+                dispatch.writeShort(accept);
+                dispatch.writeByte(2);
+                dispatch.writeByte(0);
+            } else {
+                dispatch.writeByte(0xb6); // invokevirtual
+                dispatch.writeShort(invokeExact);
+            }
+            int tryEnd = dispatch.size();
+            dispatch.writeByte(0xa7); // goto
+            dispatch.writeShort(3 + HANDLER_LENGTH);
+            int handler = dispatch.size();
+            frames.put(handler, true);
+            dispatch.writeByte(0x2a); // aload_0
+            dispatch.writeByte(0x5f); // swap
+            dispatch.writeByte(0x2b); // aload_1
+            dispatch.writeByte(0x11); // sipush
+            dispatch.writeShort(i);
+            dispatch.writeByte(0xb6); // invokevirtual
+            dispatch.writeShort(onCallbackError);
+            frames.put(dispatch.size(), false);
+            exceptionTable.writeShort(tryStart);
+            exceptionTable.writeShort(tryEnd);
+            exceptionTable.writeShort(handler);
+            exceptionTable.writeShort(throwableClass);
+        }
+        dispatch.writeByte(0xb1); // return
+
+        ByteArrayOutputStream stackMapTableData = new ByteArrayOutputStream();
+        DataOutputStream stackMapTable = new DataOutputStream(stackMapTableData);
+        stackMapTable.writeShort(frames.size());
+        int previousOffset = -1;
+        for (Map.Entry<Integer, Boolean> frame : frames.entrySet()) {
+            int offsetDelta = frame.getKey() - previousOffset - 1;
+            previousOffset = frame.getKey();
+            if (frame.getValue()) {
+                if (offsetDelta < 64) {
+                    stackMapTable.writeByte(64 + offsetDelta); // same_locals_1_stack_item_frame
+                } else {
+                    stackMapTable.writeByte(247); // same_locals_1_stack_item_frame_extended
+                    stackMapTable.writeShort(offsetDelta);
+                }
+                stackMapTable.writeByte(7); // Object_variable_info
+                stackMapTable.writeShort(throwableClass);
+            } else if (offsetDelta < 64) {
+                stackMapTable.writeByte(offsetDelta); // same_frame
+            } else {
+                stackMapTable.writeByte(251); // same_frame_extended
+                stackMapTable.writeShort(offsetDelta);
+            }
+        }
+
+        ByteArrayOutputStream classData = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(classData);
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0);
+        out.writeShort(51); // Java 7
+        pool.write(out);
+        out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC);
+        out.writeShort(thisClass);
+        out.writeShort(superClass);
+        out.writeShort(0); // interfaces
+        out.writeShort(fields.length);
+        for (int i = 0; i < fields.length; i++) {
+            out.writeShort(ACC_PRIVATE | ACC_STATIC | ACC_FINAL);
+            out.writeShort(fieldNames[i]);
+            out.writeShort(invokers[i] ? invokerDescriptor : handleDescriptor);
+            out.writeShort(0);
+        }
+        out.writeShort(3); // methods
+        writeMethod(out, ACC_PUBLIC, initName, initDescriptor,
+                codeAttribute, 2, 2, initCode.toByteArray(), null, -1, null);
+        writeMethod(out, ACC_STATIC, clinitName, clinitDescriptor,
+                codeAttribute, 3, 0, clinitCode.toByteArray(), null, -1, null);
+        writeMethod(out, ACC_PUBLIC | ACC_FINAL, dispatchName, dispatchDescriptor, codeAttribute, 4, 2,
+                dispatchCode.toByteArray(), exceptionTableData.toByteArray(),
+                stackMapTableAttribute, stackMapTableData.toByteArray());
+        out.writeShort(0); // attributes
+        return classData.toByteArray();
+    }
+
+    private static void writeMethod(DataOutputStream out, int access, int name, int descriptor,
+                                    int codeAttribute, int maxStack, int maxLocals, byte[] code,
+                                    byte[] exceptionTable, int stackMapTableAttribute,
+                                    byte[] stackMapTable) throws IOException {
+        out.writeShort(access);
+        out.writeShort(name);
+        out.writeShort(descriptor);
+        out.writeShort(1); // attributes
+        out.writeShort(codeAttribute);
+        int exceptionTableLength = exceptionTable == null ? 0 : exceptionTable.length;
+        int attributesLength = stackMapTable == null ? 0 : 6 + stackMapTable.length;
+        out.writeInt(2 + 2 + 4 + code.length + 2 + exceptionTableLength + 2 + attributesLength);
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.length);
+        out.write(code);
+        out.writeShort(exceptionTableLength / 8);
+        if (exceptionTable != null) {
+            out.write(exceptionTable);
+        }
+        if (stackMapTable == null) {
+            out.writeShort(0);
+        } else {
+            out.writeShort(1);
+            out.writeShort(stackMapTableAttribute);
+            out.writeInt(stackMapTable.length);
+            out.write(stackMapTable);
+        }
+    }
+
+    private static int checkLdc(int index) {
+        if (index > 0xFF) {
+            throw new IllegalStateException("Constant not loadable via ldc");
+        }
+        return index;
+    }
+
+    private static final class ConstantPool {
+        private final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(this.data);
+        private final HashMap<String, Integer> entries = new HashMap<>();
+        private int count = 1;
+
+        int utf8(String value) throws IOException {
+            Integer index = this.entries.get("U" + value);
+            if (index != null) return index;
+            this.out.writeByte(1);
+            this.out.writeUTF(value);
+            return this.put("U" + value);
+        }
+
+        int classRef(String name) throws IOException {
+            Integer index = this.entries.get("C" + name);
+            if (index != null) return index;
+            int utf8 = this.utf8(name);
+            this.out.writeByte(7);
+            this.out.writeShort(utf8);
+            return this.put("C" + name);
+        }
+
+        int fieldRef(String owner, String name, String descriptor) throws IOException {
+            return this.memberRef(9, owner, name, descriptor);
+        }
+
+        int methodRef(String owner, String name, String descriptor) throws IOException {
+            return this.memberRef(10, owner, name, descriptor);
+        }
+
+        int interfaceMethodRef(String owner, String name, String descriptor) throws IOException {
+            return this.memberRef(11, owner, name, descriptor);
+        }
+
+        private int memberRef(int tag, String owner, String name, String descriptor) throws IOException {
+            String key = tag + owner + '.' + name + descriptor;
+            Integer index = this.entries.get(key);
+            if (index != null) return index;
+            int classRef = this.classRef(owner);
+            int nameAndType = this.nameAndType(name, descriptor);
+            this.out.writeByte(tag);
+            this.out.writeShort(classRef);
+            this.out.writeShort(nameAndType);
+            return this.put(key);
+        }
+
+        private int nameAndType(String name, String descriptor) throws IOException {
+            String key = "N" + name + ' ' + descriptor;
+            Integer index = this.entries.get(key);
+            if (index != null) return index;
+            int nameIndex = this.utf8(name);
+            int descriptorIndex = this.utf8(descriptor);
+            this.out.writeByte(12);
+            this.out.writeShort(nameIndex);
+            this.out.writeShort(descriptorIndex);
+            return this.put(key);
+        }
+
+        private int put(String key) {
+            int index = this.count++;
+            this.entries.put(key, index);
+            return index;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeShort(this.count);
+            this.data.writeTo(out);
+        }
+    }
+
+    static final class GeneratedClassLoader extends ClassLoader {
+        final Object[] constants;
+
+        GeneratedClassLoader(Object[] constants) {
+            super(EventDispatcherGenerator.class.getClassLoader());
+            this.constants = constants;
+        }
+
+        Class<?> define(String name, byte[] classData) {
+            return this.defineClass(name, classData, 0, classData.length);
+        }
+    }
+}
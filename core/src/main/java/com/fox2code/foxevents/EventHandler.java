@@ -28,4 +28,21 @@ public @interface EventHandler {
      * @since 1.0.0
      */
     int priority() default DEFAULT_PRIORITY;
+
+    /**
+     * Async handlers are called on their executor once all synchronous handlers have been called,
+     * they can't cancel the event, and only see its final cancellation state.
+     *
+     * @return Should the handler be called asynchronously.
+     * @see FoxEvents#getHandlerExecutor(String)
+     * @since 1.4.0
+     */
+    boolean async() default false;
+
+    /**
+     * @return The key of the executor used for async handlers.
+     * @see FoxEvents#getHandlerExecutor(String)
+     * @since 1.4.0
+     */
+    String executor() default "";
 }
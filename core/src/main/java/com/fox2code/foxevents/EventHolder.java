@@ -4,11 +4,20 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.lang.invoke.SwitchPoint;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Modifier;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
-import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 
@@ -18,26 +27,61 @@ import java.util.logging.Level;
  */
 public final class EventHolder<T extends Event> {
     private static final Predicate<EventCallback> pInvalid = EventCallback::isInvalid;
-    private static final Predicate<EventCallback> pIgnoreCancelled = p -> p.ignoreCancelled;
     private static final EventCallback[] EMPTY_EVENT_CALLBACKS = new EventCallback[0];
-    static final IdentityHashMap<ClassLoader, IdentityHashMap<Class<? extends Event>, EventHolder<?>>>
-            eventHoldersCache = new IdentityHashMap<>();
-    private static final Function<ClassLoader, IdentityHashMap<Class<? extends Event>, EventHolder<?>>>
-            eventHoldersClassLoaderMapProvider = classLoader -> new IdentityHashMap<>();
-    private static final Function<Class<? extends Event>, EventHolder<?>>
-            eventHolderProvider = EventHolder::new;
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<EventHolder, RegisteredCallbacks> REGISTERED_CALLBACKS_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(EventHolder.class, RegisteredCallbacks.class, "registeredCallbacks");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<EventHolder, BakedCallbacks> BAKED_CALLBACKS_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(EventHolder.class, BakedCallbacks.class, "bakedCallbacks");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<EventHolder, DispatchMetrics> METRICS_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(EventHolder.class, DispatchMetrics.class, "metrics");
+    private static final ClassValue<EventHolder<?>> eventHolders = new ClassValue<EventHolder<?>>() {
+        @Override
+        protected EventHolder<?> computeValue(Class<?> type) {
+            return registerEventHolder(type.asSubclass(Event.class));
+        }
+    };
+    private static final Object eventHoldersLock = new Object();
+    private static final WeakHashMap<ClassLoader, ArrayList<WeakReference<EventHolder<?>>>>
+            eventHoldersReferences = new WeakHashMap<>();
     private static final boolean ignoreMemoryLeaks = Boolean.getBoolean("foxevents.ignore-memory-leaks");
-    private static final HashSet<String> printedClassLoaderMemoryLeakIssues = new HashSet<>();
     private static final ClassLoader selfClassLoader = EventHolder.class.getClassLoader();
     private static final IdentityHashMap<Class<? extends Event>, EventHolder<?>>
             selfClassLoaderMap = new IdentityHashMap<>();
-    private static volatile boolean fullWarn = true;
-    static int validationModCount = 0;
+    private static final MethodType DISPATCH_TYPE = MethodType.methodType(void.class, Event.class);
+    private static final MethodType IS_EMPTY_TYPE = MethodType.methodType(boolean.class);
+    private static final MethodHandle REBAKE_AND_DISPATCH, REBAKE_AND_IS_EMPTY, DISPATCH_BAKED, DISPATCH_ASYNC;
+    // Invalidated with validators or FoxEvents config, so call sites are re-targeted on the next dispatch
+    private static SwitchPoint validatorsSwitchPoint = new SwitchPoint();
+    private static final WeakHashMap<BooleanSupplier, WeakHashMap<EventHolder<?>, Void>>
+            validatorsEventHolders = new WeakHashMap<>();
+    static volatile int validationModCount = 0;
+    // Incremented with validationModCount, but also when only FoxEvents config changed,
+    // so the dispatch fast path only has to check this one
+    static volatile int rebakeModCount = 0;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            REBAKE_AND_DISPATCH = lookup.findVirtual(EventHolder.class, "rebakeAndDispatch", DISPATCH_TYPE);
+            REBAKE_AND_IS_EMPTY = lookup.findVirtual(EventHolder.class, "rebakeAndIsEmpty", IS_EMPTY_TYPE);
+            DISPATCH_BAKED = lookup.findStatic(EventHolder.class, "dispatchBaked", MethodType.methodType(
+                    void.class, EventCallback[].class, boolean.class, Event.class));
+            DISPATCH_ASYNC = lookup.findStatic(EventHolder.class, "dispatchAsync", MethodType.methodType(
+                    void.class, AsyncCallbacks[].class, Event.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
 
     /**
      * get the holder of an event class, it is recommended to cache holders statically,
-     * as {@code getHolderFromEvent()} is usually a bit slow, especially with millions
+     * as {@code getHolderFromEvent()} is still slower than a constant, especially with millions
      * of events per second.
+     * <p>
+     * Since 1.4.0, holders are stored in a {@link ClassValue}, and are freed with their event class.
      *
      * @param event class to get EventHolder of
      * @param <T> inferred type of the event
@@ -57,37 +101,41 @@ public final class EventHolder<T extends Event> {
      * @since 1.0.0
      */
     public static @NotNull EventHolder<?> getHolderFromEventRaw(@NotNull Class<?> event) {
-        Class<? extends Event> eventClass = event.asSubclass(Event.class);
+        // ClassValue lookups are lock-free, and tie the holder lifetime to the event class
+        return eventHolders.get(event.asSubclass(Event.class));
+    }
+
+    @SuppressWarnings("deprecation")
+    private static EventHolder<?> registerEventHolder(Class<? extends Event> eventClass) {
         ClassLoader classLoader = eventClass.getClassLoader();
         assert classLoader != null;
-        // The "==" operator is lighting fast, and the ClassLoader loading FoxEvents
-        // being the same as the classLoader of events should be the most common case
-        if (classLoader == selfClassLoader) {
-            return selfClassLoaderMap.computeIfAbsent(eventClass, eventHolderProvider);
-        }
-        if (classLoader instanceof FoxEvents.FoxEventsClassLoader) {
-            FoxEvents.FoxEventsClassLoader foxEventsClassLoader =
-                    (FoxEvents.FoxEventsClassLoader) classLoader;
-            return foxEventsClassLoader.getFoxEventHolderReferences()
-                    .computeIfAbsent(eventClass, eventHolderProvider);
-        }
-        // Warn about memory leak we can't solve properly alone.
-        String classLoaderName = classLoader.getClass().getName();
-        if (classLoader != ClassLoader.getSystemClassLoader() &&
-                classLoader != FoxEvents.getFoxEventsSoft().getClass().getClassLoader() &&
-                printedClassLoaderMemoryLeakIssues.add(classLoaderName) && !ignoreMemoryLeaks) {
-            FoxEvents.LOGGER.warning("Possible memory-leak while registering " + event.getName() +
-                    " on class loader " + classLoaderName);
-            if (fullWarn) {
-                fullWarn = false;
-                FoxEvents.LOGGER.warning("To fix the issue, implement " +
-                        "the FoxEventClassLoader interface on " + classLoaderName);
-                FoxEvents.LOGGER.warning("If you do not unload that ClassLoader " +
-                        "during your app lifecycle, you can safely ignore this message");
+        synchronized (eventHoldersLock) {
+            // The ClassValue may compute the holder concurrently, so reuse the registered one if any.
+            if (classLoader == selfClassLoader) {
+                EventHolder<?> eventHolder = selfClassLoaderMap.get(eventClass);
+                if (eventHolder == null) {
+                    eventHolder = new EventHolder<>(eventClass);
+                    selfClassLoaderMap.put(eventClass, eventHolder);
+                }
+                return eventHolder;
             }
+            ArrayList<WeakReference<EventHolder<?>>> references =
+                    eventHoldersReferences.computeIfAbsent(classLoader, cl -> new ArrayList<>());
+            for (WeakReference<EventHolder<?>> reference : references) {
+                EventHolder<?> eventHolder = reference.get();
+                if (eventHolder != null && eventHolder.event.get() == eventClass) {
+                    return eventHolder;
+                }
+            }
+            EventHolder<?> eventHolder = new EventHolder<>(eventClass);
+            references.removeIf(reference -> reference.get() == null);
+            references.add(new WeakReference<>(eventHolder));
+            if (classLoader instanceof FoxEvents.FoxEventsClassLoader) {
+                ((FoxEvents.FoxEventsClassLoader) classLoader)
+                        .getFoxEventHolderReferences().put(eventClass, eventHolder);
+            }
+            return eventHolder;
         }
-        return eventHoldersCache.computeIfAbsent(classLoader, eventHoldersClassLoaderMapProvider)
-                .computeIfAbsent(eventClass, eventHolderProvider);
     }
 
     /**
@@ -108,29 +156,69 @@ public final class EventHolder<T extends Event> {
      * @since 1.1.0
      */
     public static void forEachEventHolder(@Nullable ClassLoader classLoader,@NotNull Consumer<EventHolder<?>> action) {
-        IdentityHashMap<Class<? extends Event>, EventHolder<?>> localEventHoldersCache;
-        if (classLoader == null) classLoader = EventHolder.class.getClassLoader();
-        if (classLoader == selfClassLoader) {
-            localEventHoldersCache = selfClassLoaderMap;
-        } else if (classLoader instanceof FoxEvents.FoxEventsClassLoader) {
-            localEventHoldersCache = ((FoxEvents.FoxEventsClassLoader) classLoader).getFoxEventHolderReferences();
-        } else {
-            localEventHoldersCache = eventHoldersCache.get(classLoader);
+        IdentityHashMap<Class<? extends Event>, EventHolder<?>> eventHolderMap = getEventHolderMap(classLoader);
+        if (eventHolderMap == null) return;
+        eventHolderMap.values().forEach(action);
+    }
+
+    /**
+     * @param classLoader The class loader to list event holders off, if null, use default class loader
+     * @return a snapshot of the event holders of the class loader
+     */
+    static @Nullable IdentityHashMap<Class<? extends Event>, EventHolder<?>> getEventHolderMap(
+            @Nullable ClassLoader classLoader) {
+        if (classLoader == null) classLoader = selfClassLoader;
+        synchronized (eventHoldersLock) {
+            if (classLoader == selfClassLoader) {
+                return new IdentityHashMap<>(selfClassLoaderMap);
+            }
+            ArrayList<WeakReference<EventHolder<?>>> references = eventHoldersReferences.get(classLoader);
+            if (references == null) return null;
+            IdentityHashMap<Class<? extends Event>, EventHolder<?>> eventHolderMap = new IdentityHashMap<>();
+            for (WeakReference<EventHolder<?>> reference : references) {
+                EventHolder<?> eventHolder = reference.get();
+                Class<? extends Event> eventClass = eventHolder == null ? null : eventHolder.event.get();
+                if (eventClass != null) {
+                    eventHolderMap.put(eventClass, eventHolder);
+                }
+            }
+            return eventHolderMap;
+        }
+    }
+
+    /**
+     * @return a snapshot of the event holders of all class loaders
+     */
+    static @NotNull ArrayList<EventHolder<?>> getAllEventHolders() {
+        ArrayList<EventHolder<?>> allEventHolders;
+        synchronized (eventHoldersLock) {
+            allEventHolders = new ArrayList<>(selfClassLoaderMap.values());
+            for (ArrayList<WeakReference<EventHolder<?>>> references : eventHoldersReferences.values()) {
+                for (WeakReference<EventHolder<?>> reference : references) {
+                    EventHolder<?> eventHolder = reference.get();
+                    if (eventHolder != null && eventHolder.event.get() != null) {
+                        allEventHolders.add(eventHolder);
+                    }
+                }
+            }
         }
-        if (localEventHoldersCache == null) return;
-        localEventHoldersCache.values().forEach(action);
+        return allEventHolders;
     }
 
-    private final ArrayList<EventCallback> eventCallbacks = new ArrayList<>();
-    private EventCallback[] bakedCallbacks = EMPTY_EVENT_CALLBACKS;
-    private boolean bakedCallbacksSkipOnCancelled = false;
+    private volatile RegisteredCallbacks registeredCallbacks = RegisteredCallbacks.EMPTY;
+    private volatile BakedCallbacks bakedCallbacks;
+    private volatile DispatchMetrics metrics;
     private WeakHashMap<EventHolder<?>, Void> delegatedChilds;
     private final EventHolder<? super T> delegate;
     private final WeakReference<Class<T>> event;
     private final String eventName;
     private final int eventModifiers;
     private final boolean cancellable;
-    private volatile int validationCount;
+    private final boolean parallel;
+    private final MutableCallSite dispatchCallSite = new MutableCallSite(DISPATCH_TYPE);
+    private final MutableCallSite isEmptyCallSite = new MutableCallSite(IS_EMPTY_TYPE);
+    private final MethodHandle rebakeAndDispatch = REBAKE_AND_DISPATCH.bindTo(this);
+    private final MethodHandle rebakeAndIsEmpty = REBAKE_AND_IS_EMPTY.bindTo(this);
 
     @SuppressWarnings("unchecked")
     private EventHolder(Class<T> event) {
@@ -139,18 +227,19 @@ public final class EventHolder<T extends Event> {
         this.eventModifiers = event.getModifiers();
         boolean cancellable = Event.Cancellable.class.isAssignableFrom(event);
         boolean delegate = event.getDeclaredAnnotation(Event.DelegateEvent.class) != null;
+        this.parallel = !cancellable && event.getDeclaredAnnotation(Event.ParallelEvent.class) != null;
         if (delegate && event.getClassLoader() != event.getSuperclass().getClassLoader() && !ignoreMemoryLeaks) {
             throw new IllegalStateException("Delegate have a super class with a different class loader than it's on");
         }
         this.delegate = delegate ? (EventHolder<? super T>) getHolderFromEventRaw(event.getSuperclass()) : null;
         if (this.delegate != null) {
-            this.delegate.getDelegatedChilds().put(this, null);
-            // Force early dirty callbacks if delegate isn't empty
-            if (!this.delegate.isEmpty()) {
-                this.bakedCallbacks = null;
-            }
+            this.delegate.addDelegatedChild(this);
         }
         this.cancellable = cancellable;
+        this.dispatchCallSite.setTarget(this.rebakeAndDispatch);
+        this.isEmptyCallSite.setTarget(this.rebakeAndIsEmpty);
+        // Don't bake here, baking call FoxEvents hooks that must not see an unpublished holder,
+        // the first dispatch or registration bake callbacks instead
     }
 
     /**
@@ -191,7 +280,7 @@ public final class EventHolder<T extends Event> {
      */
     @Contract(pure = true)
     public boolean isEmpty() {
-        return this.eventCallbacks.isEmpty() &&
+        return this.registeredCallbacks.callbacks.length == 0 &&
                 (this.delegate == null || this.delegate.isEmpty());
     }
 
@@ -222,6 +311,16 @@ public final class EventHolder<T extends Event> {
         return this.cancellable;
     }
 
+    /**
+     * @return if event listeners may be called in parallel
+     * @see Event.ParallelEvent
+     * @since 1.4.0
+     */
+    @Contract(pure = true)
+    public boolean isParallel() {
+        return this.parallel;
+    }
+
     /**
      * Call event through the event pipeline
      * @param event to dispatch
@@ -233,50 +332,385 @@ public final class EventHolder<T extends Event> {
         this.callEventRaw(event);
     }
 
+    /**
+     * Call event through the event pipeline, then reset it with {@link Event#cleanUp()},
+     * allowing preallocated event instances to be reused.
+     *
+     * @param event to dispatch
+     * @since 1.4.0
+     */
+    public void callEventAndCleanUp(@NotNull T event) {
+        Objects.requireNonNull(event, "event == null");
+        this.getEvent().cast(event);
+        try {
+            this.callEventRaw(event);
+        } finally {
+            event.cleanUp();
+        }
+    }
+
+    /**
+     * Call events through the event pipeline, see {@link #callEvents(Event[], int, int)}.
+     *
+     * @param events to dispatch
+     * @since 1.4.0
+     */
+    public void callEvents(@NotNull T[] events) {
+        this.callEvents(events, 0, events.length);
+    }
+
+    /**
+     * Call a batch of events through the event pipeline, baked callbacks are acquired once,
+     * then each callback is called for every event before the next callback is called.
+     * <p>
+     * Priority and cancellation semantics are the same as {@link #callEvent(Event)} for each event,
+     * but callbacks for different events of the batch are interleaved.
+     * <p>
+     * Holders baked with a {@link DispatchStrategy} other than {@link DispatchStrategy#LOOP},
+     * recording {@link DispatchMetrics}, traced, checked for slow listeners, or intercepted,
+     * dispatch each event in turn through {@link #callEvent(Event)} instead.
+     *
+     * @param events to dispatch
+     * @param from index of the first event to dispatch, inclusive
+     * @param to index of the last event to dispatch, exclusive
+     * @since 1.4.0
+     */
+    public void callEvents(@NotNull T[] events, int from, int to) {
+        Objects.requireNonNull(events, "events == null");
+        if (from < 0 || from > to || to > events.length) {
+            throw new IndexOutOfBoundsException(
+                    "from: " + from + ", to: " + to + ", length: " + events.length);
+        }
+        Class<T> eventClass = this.getEvent();
+        for (int i = from; i < to; i++) {
+            eventClass.cast(Objects.requireNonNull(events[i], "event == null"));
+        }
+        this.callEventsRaw(events, from, to);
+    }
+
+    /**
+     * Call a batch of events through the event pipeline, see {@link #callEvents(Event[], int, int)}.
+     *
+     * @param events to dispatch
+     * @since 1.4.0
+     */
+    public void callEvents(@NotNull Iterable<? extends T> events) {
+        Objects.requireNonNull(events, "events == null");
+        Event[] eventsArray;
+        if (events instanceof Collection) {
+            eventsArray = ((Collection<? extends T>) events).toArray(new Event[0]);
+        } else {
+            ArrayList<Event> eventsList = new ArrayList<>();
+            for (T event : events) {
+                eventsList.add(event);
+            }
+            eventsArray = eventsList.toArray(new Event[0]);
+        }
+        Class<T> eventClass = this.getEvent();
+        for (Event event : eventsArray) {
+            eventClass.cast(Objects.requireNonNull(event, "event == null"));
+        }
+        this.callEventsRaw(eventsArray, 0, eventsArray.length);
+    }
+
+    /**
+     * Call event through the event pipeline on the executor provided by
+     * {@link FoxEvents#getAsyncExecutor(EventHolder)}, priority and cancellation
+     * semantics are the same as {@link #callEvent(Event)}.
+     *
+     * @param event to dispatch
+     * @return a future completed with the event once all callbacks have been called
+     * @since 1.4.0
+     */
+    public @NotNull CompletableFuture<T> callEventAsync(@NotNull T event) {
+        return this.callEventAsync(event, FoxEvents.getFoxEventsSoft().getAsyncExecutor(this));
+    }
+
+    /**
+     * Call event through the event pipeline on the specified executor, priority and
+     * cancellation semantics are the same as {@link #callEvent(Event)}.
+     *
+     * @param event to dispatch
+     * @param executor the executor to run the event pipeline on
+     * @return a future completed with the event once all callbacks have been called
+     * @since 1.4.0
+     */
+    public @NotNull CompletableFuture<T> callEventAsync(@NotNull T event, @NotNull Executor executor) {
+        Objects.requireNonNull(event, "event == null");
+        Objects.requireNonNull(executor, "executor == null");
+        this.getEvent().cast(event);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    this.callEventRaw(event);
+                    future.complete(event);
+                } catch (Throwable throwable) {
+                    future.completeExceptionally(throwable);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * @return the dispatch metrics of this holder, or {@code null} if metrics were never enabled for it
+     * @see FoxEvents#isMetricsEnabled(EventHolder)
+     * @since 1.4.0
+     */
+    @Contract(pure = true)
+    public @Nullable DispatchMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    private DispatchMetrics getOrCreateMetrics() {
+        DispatchMetrics metrics = this.metrics;
+        if (metrics == null) {
+            METRICS_UPDATER.compareAndSet(this, null, new DispatchMetrics());
+            metrics = this.metrics;
+        }
+        return metrics;
+    }
+
     /**
      * Allow to ensure that event handlers are baked.
      * @since 1.0.0
      */
     public void ensureBaked() {
-        if (this.bakedCallbacks == null ||
-                this.validationCount != validationModCount) {
-            this.aquireBackedCallbacks();
-        }
+        this.aquireBackedCallbacks();
     }
 
-    EventCallback[] aquireBackedCallbacks() {
-        EventCallback[] bakedCallbacks;
-        int validationModCountCache = validationModCount;
-        if (this.validationCount == validationModCountCache &&
-                (bakedCallbacks = this.bakedCallbacks) != null) {
+    /**
+     * Get the baked callbacks, callbacks are baked when registered, this only need
+     * to bake if the holder was never baked, validators have been invalidated, or to make the dispatcher.
+     */
+    BakedCallbacks aquireBackedCallbacks() {
+        BakedCallbacks bakedCallbacks = this.bakedCallbacks;
+        if (bakedCallbacks != null && bakedCallbacks.rebakeCount == rebakeModCount &&
+                bakedCallbacks.dispatcherResolved) {
             return bakedCallbacks;
         }
-        synchronized (this.eventCallbacks) {
-            bakedCallbacks = this.bakedCallbacks;
-            if (bakedCallbacks == null ||
-                    this.validationCount != validationModCountCache) {
-                this.validationCount = validationModCountCache;
-                ArrayList<EventCallback> eventCallbacks;
-                if (this.delegate == null) {
-                    this.eventCallbacks.removeIf(pInvalid);
-                    eventCallbacks = this.eventCallbacks;
-                } else {
-                    eventCallbacks = new ArrayList<>();
-                    this.collectHandlers(eventCallbacks);
+        return this.aquireBackedCallbacksSlow();
+    }
+
+    private BakedCallbacks aquireBackedCallbacksSlow() {
+        BakedCallbacks bakedCallbacks = this.aquireBakedSnapshot();
+        if (bakedCallbacks.rebakeCount != rebakeModCount) {
+            // Only FoxEvents config changed, so validators don't need to be evaluated again
+            bakedCallbacks = this.rebake();
+        }
+        if (!bakedCallbacks.dispatcherResolved) {
+            // Concurrent resolutions build equivalent dispatchers, the last one to be written wins
+            EventDispatcher dispatcher = null;
+            // Metrics and tracing dispatchers time every callback, so they report slow listeners themselves
+            if (bakedCallbacks.metrics != null) {
+                dispatcher = new MetricsEventDispatcher(bakedCallbacks.callbacks, bakedCallbacks.skipOnCancelled,
+                        bakedCallbacks.metrics, bakedCallbacks.slowListenerBudget);
+            } else if (bakedCallbacks.traced) {
+                dispatcher = FlightRecorderSupport.makeDispatcher(this, bakedCallbacks.callbacks,
+                        bakedCallbacks.skipOnCancelled, bakedCallbacks.slowListenerBudget);
+            }
+            if (dispatcher == null) {
+                dispatcher = bakedCallbacks.dispatchStrategy.makeDispatcher(
+                        this, bakedCallbacks.callbacks, bakedCallbacks.skipOnCancelled);
+                if (bakedCallbacks.slowListenerBudget != 0) {
+                    dispatcher = new SlowListenerEventDispatcher(bakedCallbacks.callbacks,
+                            bakedCallbacks.skipOnCancelled, bakedCallbacks.slowListenerBudget, dispatcher);
                 }
-                eventCallbacks.sort(FoxEvents.getFoxEventsSoft().comparator);
-                this.bakedCallbacks = bakedCallbacks =
-                        eventCallbacks.toArray(EMPTY_EVENT_CALLBACKS);
-                this.bakedCallbacksSkipOnCancelled =
-                        eventCallbacks.stream().noneMatch(pIgnoreCancelled);
             }
+            if (bakedCallbacks.interceptors != null) {
+                // Interceptors are outermost, so no other dispatcher can bypass them
+                dispatcher = InterceptedEventDispatcher.make(this, bakedCallbacks.callbacks,
+                        bakedCallbacks.skipOnCancelled, bakedCallbacks.interceptors, dispatcher);
+            }
+            // The volatile write of dispatcherResolved publish the dispatcher, so a thread seeing
+            // it resolved never fall back to the loop dispatch, bypassing metrics or interceptors
+            bakedCallbacks.dispatcher = dispatcher;
+            bakedCallbacks.dispatcherResolved = true;
+        }
+        return bakedCallbacks;
+    }
+
+    /**
+     * Get the baked callbacks without resolving their dispatcher, only baking them
+     * if the holder was never baked or validators have been invalidated.
+     * <p>
+     * Delegated childs merge from this snapshot, so baking them doesn't make
+     * dispatchers for parents that may never be dispatched directly.
+     */
+    private BakedCallbacks aquireBakedSnapshot() {
+        BakedCallbacks bakedCallbacks = this.bakedCallbacks;
+        if (bakedCallbacks == null || bakedCallbacks.validationCount != validationModCount) {
+            this.removeInvalidCallbacks();
+            bakedCallbacks = this.rebake();
         }
         return bakedCallbacks;
     }
 
+    /**
+     * Build and publish new baked callbacks from the registered callbacks,
+     * and the delegate baked callbacks, retrying until no concurrent changes happened.
+     */
+    private BakedCallbacks rebake() {
+        FoxEvents foxEvents = FoxEvents.getFoxEventsSoft();
+        Object rebakeEvent = FlightRecorderSupport.beginRebake();
+        while (true) {
+            // Read the current baked callbacks first, so a concurrent change always fail the CAS
+            BakedCallbacks current = this.bakedCallbacks;
+            int validationCount = validationModCount;
+            int rebakeCount = rebakeModCount;
+            RegisteredCallbacks registeredCallbacks = this.registeredCallbacks;
+            EventCallback[] callbacks = registeredCallbacks.callbacks;
+            // Counts are maintained on registration, so baking doesn't need to scan callbacks
+            int syncIgnoreCancelledCount = registeredCallbacks.syncIgnoreCancelledCount;
+            int asyncCount = registeredCallbacks.asyncCount;
+            if (this.delegate != null) {
+                BakedCallbacks delegateCallbacks = this.delegate.aquireBakedSnapshot();
+                callbacks = mergeSorted(callbacks, delegateCallbacks.allCallbacks, foxEvents.comparator);
+                syncIgnoreCancelledCount += delegateCallbacks.syncIgnoreCancelledCount;
+                asyncCount += delegateCallbacks.asyncCount;
+            }
+            EventCallback[] syncCallbacks = callbacks;
+            AsyncCallbacks[] asyncCallbacks = null;
+            if (asyncCount != 0) {
+                syncCallbacks = filter(callbacks, EventCallback::isAsync);
+                asyncCallbacks = AsyncCallbacks.group(foxEvents, callbacks);
+            }
+            BakedCallbacks next = new BakedCallbacks(callbacks, syncCallbacks, asyncCallbacks,
+                    syncIgnoreCancelledCount, asyncCount, validationCount, rebakeCount,
+                    foxEvents.getDispatchStrategy(this),
+                    foxEvents.isMetricsEnabled(this) ? this.getOrCreateMetrics() : null,
+                    FlightRecorderSupport.isDispatchTraced(), Math.max(0L, foxEvents.getSlowListenerBudget(this)),
+                    foxEvents.getEventInterceptors(this).toArray(new EventInterceptor[0]));
+            if (BAKED_CALLBACKS_UPDATER.compareAndSet(this, current, next)) {
+                if (current != null) {
+                    current.invalidate();
+                }
+                FlightRecorderSupport.endRebake(rebakeEvent, this, callbacks.length);
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Get a method handle dispatching events to the baked callbacks, the handle is backed by
+     * a {@link MutableCallSite} that is re-targeted when callbacks change.
+     * <p>
+     * When stored in a {@code static final} field, dispatch has no baking checks once baked,
+     * allowing the JIT to treat baked callbacks as constants.
+     *
+     * @return a {@code (T)void} method handle dispatching the event
+     * @since 1.4.0
+     */
+    @Contract(pure = true)
+    public @NotNull MethodHandle getDispatchHandle() {
+        return this.dispatchCallSite.dynamicInvoker().asType(
+                MethodType.methodType(void.class, this.getEvent()));
+    }
+
+    /**
+     * Get a method handle returning the value of {@link #isEmpty()}, the handle is backed by
+     * a {@link MutableCallSite} that is re-targeted when callbacks change.
+     * <p>
+     * When stored in a {@code static final} field, the check become a constant for the JIT.
+     *
+     * @return a {@code ()boolean} method handle returning if no listeners are registered
+     * @since 1.4.0
+     */
+    @Contract(pure = true)
+    public @NotNull MethodHandle getIsEmptyHandle() {
+        return this.isEmptyCallSite.dynamicInvoker();
+    }
+
     void callEventRaw(@NotNull Event event) {
-        EventCallback[] bakedCallbacks = this.aquireBackedCallbacks();
-        if (this.bakedCallbacksSkipOnCancelled) {
+        if (EventPool.DEBUG) {
+            EventPool.checkNotReleased(event);
+        }
+        BakedCallbacks bakedCallbacks = this.aquireBackedCallbacks();
+        EventDispatcher bakedDispatcher = bakedCallbacks.dispatcher;
+        if (bakedDispatcher != null) {
+            bakedDispatcher.dispatch(event);
+        } else {
+            dispatchBaked(bakedCallbacks.callbacks, bakedCallbacks.skipOnCancelled, event);
+        }
+        if (bakedCallbacks.asyncCallbacks != null) {
+            dispatchAsync(bakedCallbacks.asyncCallbacks, event);
+        }
+    }
+
+    void callEventsRaw(@NotNull Event[] events, int from, int to) {
+        if (from == to) return;
+        BakedCallbacks bakedCallbacks = this.aquireBackedCallbacks();
+        if (bakedCallbacks.metrics != null || bakedCallbacks.traced || bakedCallbacks.slowListenerBudget != 0 ||
+                bakedCallbacks.interceptors != null || bakedCallbacks.dispatchStrategy != DispatchStrategy.LOOP) {
+            // Metrics, tracing, slow listeners, interceptors and baked dispatchers work per event
+            for (int i = from; i < to; i++) {
+                this.callEventRaw(events[i]);
+            }
+            return;
+        }
+        if (EventPool.DEBUG) {
+            // Check the whole batch first, so no callback is called for a batch using a released event
+            for (int i = from; i < to; i++) {
+                EventPool.checkNotReleased(events[i]);
+            }
+        }
+        // Listener-major, so each callback stays hot while it is called for the whole batch
+        for (EventCallback eventCallback : bakedCallbacks.callbacks) {
+            if (eventCallback.ignoreCancelled) {
+                for (int i = from; i < to; i++) {
+                    eventCallback.callForEventRaw(events[i]);
+                }
+            } else {
+                for (int i = from; i < to; i++) {
+                    Event event = events[i];
+                    if (event.cancelled) continue;
+                    eventCallback.callForEventRaw(event);
+                }
+            }
+        }
+        if (bakedCallbacks.asyncCallbacks != null) {
+            for (int i = from; i < to; i++) {
+                dispatchAsync(bakedCallbacks.asyncCallbacks, events[i]);
+            }
+        }
+    }
+
+    /**
+     * Hand async callbacks to their executor, the synchronous callbacks must
+     * have been called, so the event cancellation state is final.
+     */
+    private static void dispatchAsync(AsyncCallbacks[] asyncCallbacks, Event event) {
+        for (AsyncCallbacks asyncGroup : asyncCallbacks) {
+            EventCallback[] eventCallbacks = asyncGroup.callbacks;
+            if (event.cancelled) {
+                eventCallbacks = filter(eventCallbacks, eventCallback -> !eventCallback.ignoreCancelled);
+                if (eventCallbacks.length == 0) continue;
+            }
+            final EventCallback[] finalEventCallbacks = eventCallbacks;
+            try {
+                asyncGroup.executor.execute(() -> {
+                    for (EventCallback eventCallback : finalEventCallbacks) {
+                        try {
+                            eventCallback.callForEventRaw(event);
+                        } catch (Throwable throwable) {
+                            FoxEvents.LOGGER.log(Level.SEVERE, "Async handler failed for " +
+                                    event.getClass().getName(), throwable);
+                        }
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                FoxEvents.LOGGER.log(Level.WARNING, "Async handlers rejected for " +
+                        event.getClass().getName(), e);
+            }
+        }
+    }
+
+    private static void dispatchBaked(EventCallback[] bakedCallbacks,
+                                      boolean bakedCallbacksSkipOnCancelled, Event event) {
+        if (bakedCallbacksSkipOnCancelled) {
             for (EventCallback eventCallback : bakedCallbacks) {
                 if (event.cancelled) return;
                 eventCallback.callForEventRaw(event);
@@ -289,12 +723,97 @@ public final class EventHolder<T extends Event> {
         }
     }
 
-    boolean isEventCallbackRegistered(EventCallback eventCallback) {
-        boolean isRegistered;
-        synchronized (this.eventCallbacks) {
-            isRegistered = this.eventCallbacks.contains(eventCallback);
+    private void rebakeAndDispatch(Event event) {
+        this.installCallSites();
+        this.callEventRaw(event);
+    }
+
+    private boolean rebakeAndIsEmpty() {
+        this.installCallSites();
+        return this.isEmpty();
+    }
+
+    private synchronized void installCallSites() {
+        // Read the switch point first, so a concurrent invalidation is never missed
+        SwitchPoint validatorsSwitchPoint = getValidatorsSwitchPoint();
+        BakedCallbacks bakedCallbacks = this.aquireBackedCallbacks();
+        EventDispatcher bakedDispatcher = bakedCallbacks.dispatcher;
+        MethodHandle dispatch = bakedDispatcher != null ? bakedDispatcher.asMethodHandle() :
+                MethodHandles.insertArguments(DISPATCH_BAKED, 0,
+                        bakedCallbacks.callbacks, bakedCallbacks.skipOnCancelled);
+        if (bakedCallbacks.asyncCallbacks != null) {
+            // Call the synchronous callbacks first, then hand the event to async callbacks
+            dispatch = MethodHandles.foldArguments(MethodHandles.insertArguments(
+                    DISPATCH_ASYNC, 0, (Object) bakedCallbacks.asyncCallbacks), dispatch);
+        }
+        MethodHandle isEmpty = MethodHandles.constant(boolean.class, this.isEmpty());
+        SwitchPoint switchPoint = new SwitchPoint();
+        this.dispatchCallSite.setTarget(validatorsSwitchPoint.guardWithTest(
+                switchPoint.guardWithTest(dispatch, this.rebakeAndDispatch), this.rebakeAndDispatch));
+        this.isEmptyCallSite.setTarget(validatorsSwitchPoint.guardWithTest(
+                switchPoint.guardWithTest(isEmpty, this.rebakeAndIsEmpty), this.rebakeAndIsEmpty));
+        SwitchPoint previous = bakedCallbacks.switchPoint;
+        bakedCallbacks.switchPoint = switchPoint;
+        if (previous != null) {
+            SwitchPoint.invalidateAll(new SwitchPoint[]{previous});
+        }
+        if (this.bakedCallbacks != bakedCallbacks) {
+            // Callbacks changed while installing
+            bakedCallbacks.invalidate();
+        }
+    }
+
+    private static synchronized SwitchPoint getValidatorsSwitchPoint() {
+        return validatorsSwitchPoint;
+    }
+
+    static void invalidateAllValidators() {
+        invalidateAll(true);
+    }
+
+    /**
+     * Force all event holders to be baked again on their next dispatch, without evaluating validators,
+     * used when FoxEvents config read while baking changed.
+     */
+    static void invalidateAllBakedCallbacks() {
+        invalidateAll(false);
+    }
+
+    private static void invalidateAll(boolean validators) {
+        SwitchPoint switchPoint;
+        synchronized (EventHolder.class) {
+            if (validators) {
+                validationModCount = validationModCount + 1;
+            }
+            rebakeModCount = rebakeModCount + 1;
+            switchPoint = validatorsSwitchPoint;
+            validatorsSwitchPoint = new SwitchPoint();
         }
-        return isRegistered;
+        SwitchPoint.invalidateAll(new SwitchPoint[]{switchPoint});
+    }
+
+    EventHolder<? super T> getDelegate() {
+        return this.delegate;
+    }
+
+    synchronized EventHolder<?>[] getDelegatedChilds() {
+        return this.delegatedChilds == null ? new EventHolder<?>[0] :
+                this.delegatedChilds.keySet().toArray(new EventHolder<?>[0]);
+    }
+
+    EventCallback[] getRegisteredCallbacks() {
+        return this.registeredCallbacks.callbacks;
+    }
+
+    /**
+     * @return the baked callbacks, without baking them, may be outdated or {@code null}
+     */
+    BakedCallbacks peekBakedCallbacks() {
+        return this.bakedCallbacks;
+    }
+
+    boolean isEventCallbackRegistered(EventCallback eventCallback) {
+        return eventCallback.eventHolder == this && eventCallback.registered != 0;
     }
 
     boolean registerEventCallback(EventCallback eventCallback) {
@@ -308,17 +827,37 @@ public final class EventHolder<T extends Event> {
             // We should never reach this code, but just in case.
             throw new IllegalArgumentException("EventCallback.eventHolder != this");
         }
-        boolean added = false;
-        synchronized (this.eventCallbacks) {
-            if (!this.eventCallbacks.contains(eventCallback)) {
-                added = this.eventCallbacks.add(eventCallback);
-                this.bakedCallbacks = null;
-            }
+        if (!EventCallback.REGISTERED_UPDATER.compareAndSet(eventCallback, 0, 1)) {
+            // Callbacks can only be registered in their own holder, so this is enough to avoid duplicates
+            return false;
+        }
+        // Quarantined slow callbacks can be registered again, and are then checked again
+        if (eventCallback.slowStrikes != 0) {
+            eventCallback.slowStrikes = 0;
+        }
+        Comparator<EventCallback> comparator = FoxEvents.getFoxEventsSoft().comparator;
+        RegisteredCallbacks registeredCallbacks;
+        do {
+            registeredCallbacks = this.registeredCallbacks;
+        } while (!REGISTERED_CALLBACKS_UPDATER.compareAndSet(this, registeredCallbacks,
+                registeredCallbacks.insert(eventCallback, comparator)));
+        Object holder = eventCallback.getHolder();
+        if (holder != null) {
+            EventOwnerIndex.add(holder, this);
+        } else if (eventCallback.isWeak()) {
+            // The receiver was collected before being registered, its reference may already have been
+            // enqueued, or never will be if it was cleared before the callback was made, so remove it now
+            this.unregisterEventCallback(eventCallback);
+            return false;
         }
-        if (this.delegatedChilds != null && added) {
-            this.markChildsDirty();
+        if (eventCallback.validator != null) {
+            synchronized (validatorsEventHolders) {
+                validatorsEventHolders.computeIfAbsent(eventCallback.validator,
+                        validator -> new WeakHashMap<>()).put(this, null);
+            }
         }
-        return added;
+        this.onCallbacksChanged();
+        return true;
     }
 
     boolean unregisterEventCallback(EventCallback eventCallback) {
@@ -326,57 +865,387 @@ public final class EventHolder<T extends Event> {
             // We should never reach this code, but just in case.
             throw new IllegalArgumentException("EventCallback.eventHolder != this");
         }
+        if (eventCallback.registered == 0) {
+            // Disabled listeners are not registered, but must not be enabled again
+            return EventRegistry.INSTANCE.dropDisabledListeners(other -> other == eventCallback);
+        }
+        Comparator<EventCallback> comparator = FoxEvents.getFoxEventsSoft().comparator;
+        RegisteredCallbacks registeredCallbacks;
+        int index;
+        do {
+            registeredCallbacks = this.registeredCallbacks;
+            index = registeredCallbacks.indexOf(eventCallback, comparator);
+            if (index == -1) {
+                return false;
+            }
+        } while (!REGISTERED_CALLBACKS_UPDATER.compareAndSet(this, registeredCallbacks,
+                registeredCallbacks.remove(index)));
+        this.onCallbackRemoved(eventCallback);
+        this.onCallbacksChanged();
+        return true;
+    }
+
+    boolean unregisterEventCallbacks(final EventCallback[] eventCallbacks) {
+        Predicate<EventCallback> predicate = eventCallback -> {
+            for (EventCallback other : eventCallbacks) {
+                if (other == eventCallback) return true;
+            }
+            return false;
+        };
+        // Disabled listeners are not registered, but must not be enabled again
+        boolean dropped = EventRegistry.INSTANCE.dropDisabledListeners(predicate);
+        if (this.removeCallbacksIf(predicate)) {
+            this.onCallbacksChanged();
+            return true;
+        }
+        return dropped;
+    }
+
+    boolean unregisterEventCallbackFromInstance(final Object instance) {
+        if (instance == null) return false;
+        if (this.removeCallbacksIf(eventCallback -> eventCallback.getHolder() == instance)) {
+            this.onCallbacksChanged();
+            return true;
+        }
+        return false;
+    }
+
+    private void removeInvalidCallbacks() {
+        this.removeCallbacksIf(pInvalid);
+    }
+
+    /**
+     * Re-evaluate validators of this event holder callbacks now, without affecting other event holders.
+     *
+     * @return if any callback has been removed
+     */
+    boolean revalidateCallbacks() {
+        if (this.removeCallbacksIf(pInvalid)) {
+            this.onCallbacksChanged();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Re-evaluate the validator only on callbacks using it, on every event holders it is used in.
+     *
+     * @param validator the validator to re-evaluate
+     * @return if any callback has been removed
+     */
+    static boolean revalidateCallbacks(BooleanSupplier validator) {
+        EventHolder<?>[] eventHolders;
+        synchronized (validatorsEventHolders) {
+            WeakHashMap<EventHolder<?>, Void> holders = validatorsEventHolders.get(validator);
+            if (holders == null) return false;
+            eventHolders = holders.keySet().toArray(new EventHolder<?>[0]);
+        }
+        if (validator.getAsBoolean()) return false;
         boolean removed = false;
-        synchronized (this.eventCallbacks) {
-            if (!this.eventCallbacks.contains(eventCallback)) {
-                removed = this.eventCallbacks.remove(eventCallback);
-                this.bakedCallbacks = null;
+        for (EventHolder<?> eventHolder : eventHolders) {
+            if (eventHolder.removeCallbacksIf(eventCallback -> eventCallback.validator == validator)) {
+                eventHolder.onCallbacksChanged();
+                removed = true;
             }
         }
-        if (this.delegatedChilds != null && removed) {
-            this.markChildsDirty();
+        synchronized (validatorsEventHolders) {
+            validatorsEventHolders.remove(validator);
         }
         return removed;
     }
 
-    boolean unregisterEventCallbackFromInstance(final Object instance) {
-        if (instance == null) return false;
-        boolean unregistered;
-        synchronized (this.eventCallbacks) {
-            unregistered = this.eventCallbacks.removeIf(
-                    eventCallback -> eventCallback.holder == instance);
+    private boolean removeCallbacksIf(Predicate<EventCallback> predicate) {
+        RegisteredCallbacks registeredCallbacks;
+        RegisteredCallbacks filtered;
+        do {
+            registeredCallbacks = this.registeredCallbacks;
+            filtered = registeredCallbacks.filter(predicate);
+            if (filtered == registeredCallbacks) {
+                return false;
+            }
+        } while (!REGISTERED_CALLBACKS_UPDATER.compareAndSet(this, registeredCallbacks, filtered));
+        // Filtered callbacks are a subsequence of the previous callbacks
+        EventCallback[] previous = registeredCallbacks.callbacks, remaining = filtered.callbacks;
+        for (int i = 0, j = 0; i < previous.length; i++) {
+            if (j < remaining.length && remaining[j] == previous[i]) {
+                j++;
+            } else {
+                this.onCallbackRemoved(previous[i]);
+            }
         }
-        if (unregistered) {
-            this.bakedCallbacks = null;
-            this.markChildsDirty();
+        return true;
+    }
+
+    private void onCallbackRemoved(EventCallback eventCallback) {
+        eventCallback.registered = 0;
+        Object holder = eventCallback.getHolder();
+        if (holder != null) {
+            EventOwnerIndex.remove(holder, this);
         }
-        return unregistered;
     }
 
-    private WeakHashMap<EventHolder<?>, Void> getDelegatedChilds() {
-        if (this.delegatedChilds == null) {
-            this.delegatedChilds = new WeakHashMap<>();
+    private void onCallbacksChanged() {
+        this.rebake();
+        this.markChildsDirty();
+    }
+
+    private void addDelegatedChild(EventHolder<?> eventHolder) {
+        synchronized (this) {
+            if (this.delegatedChilds == null) {
+                this.delegatedChilds = new WeakHashMap<>();
+            }
+            this.delegatedChilds.put(eventHolder, null);
         }
-        return this.delegatedChilds;
     }
 
     private void markChildsDirty() {
-        WeakHashMap<EventHolder<?>, Void> delegatedChilds = this.delegatedChilds;
-        if (delegatedChilds != null) {
-            for (EventHolder<?> eventHolder : delegatedChilds.keySet()) {
-                synchronized (eventHolder.eventCallbacks) {
-                    eventHolder.bakedCallbacks = null;
+        EventHolder<?>[] delegatedChilds;
+        synchronized (this) {
+            if (this.delegatedChilds == null) return;
+            delegatedChilds = this.delegatedChilds.keySet().toArray(new EventHolder<?>[0]);
+        }
+        for (EventHolder<?> eventHolder : delegatedChilds) {
+            eventHolder.rebake();
+            eventHolder.markChildsDirty();
+        }
+    }
+
+    private static EventCallback[] filter(EventCallback[] eventCallbacks, Predicate<EventCallback> predicate) {
+        EventCallback[] result = null;
+        int length = 0;
+        for (int i = 0; i < eventCallbacks.length; i++) {
+            EventCallback eventCallback = eventCallbacks[i];
+            if (predicate.test(eventCallback)) {
+                if (result == null) {
+                    result = new EventCallback[eventCallbacks.length - 1];
+                    System.arraycopy(eventCallbacks, 0, result, 0, i);
+                    length = i;
                 }
-                eventHolder.markChildsDirty();
+            } else if (result != null) {
+                result[length++] = eventCallback;
             }
         }
+        if (result == null) {
+            return eventCallbacks;
+        }
+        return length == 0 ? EMPTY_EVENT_CALLBACKS : Arrays.copyOf(result, length);
     }
 
-    private void collectHandlers(ArrayList<EventCallback> eventCallbacks) {
-        this.eventCallbacks.removeIf(pInvalid);
-        eventCallbacks.addAll(this.eventCallbacks);
-        if (this.delegate != null) {
-            this.delegate.collectHandlers(eventCallbacks);
+    private static EventCallback[] mergeSorted(EventCallback[] eventCallbacks, EventCallback[] delegateCallbacks,
+                                               Comparator<EventCallback> comparator) {
+        if (delegateCallbacks.length == 0) return eventCallbacks;
+        if (eventCallbacks.length == 0) return delegateCallbacks;
+        // Own callbacks go first for callbacks of the same order
+        EventCallback[] result = new EventCallback[eventCallbacks.length + delegateCallbacks.length];
+        int i = 0, j = 0, k = 0;
+        while (i < eventCallbacks.length && j < delegateCallbacks.length) {
+            result[k++] = comparator.compare(eventCallbacks[i], delegateCallbacks[j]) <= 0 ?
+                    eventCallbacks[i++] : delegateCallbacks[j++];
+        }
+        while (i < eventCallbacks.length) result[k++] = eventCallbacks[i++];
+        while (j < delegateCallbacks.length) result[k++] = delegateCallbacks[j++];
+        return result;
+    }
+
+    /**
+     * Immutable snapshot of the callbacks to dispatch, only the dispatcher is lazily made.
+     */
+    static final class BakedCallbacks {
+        final EventCallback[] allCallbacks;
+        final EventCallback[] callbacks;
+        final AsyncCallbacks[] asyncCallbacks;
+        final int syncIgnoreCancelledCount;
+        final int asyncCount;
+        final boolean skipOnCancelled;
+        final int validationCount;
+        final int rebakeCount;
+        final DispatchStrategy dispatchStrategy;
+        final DispatchMetrics metrics;
+        final boolean traced;
+        final long slowListenerBudget;
+        final EventInterceptor[] interceptors;
+        // Only read after dispatcherResolved, which is written after dispatcher
+        EventDispatcher dispatcher;
+        volatile boolean dispatcherResolved;
+        volatile SwitchPoint switchPoint;
+
+        BakedCallbacks(EventCallback[] allCallbacks, EventCallback[] callbacks, AsyncCallbacks[] asyncCallbacks,
+                       int syncIgnoreCancelledCount, int asyncCount, int validationCount, int rebakeCount,
+                       DispatchStrategy dispatchStrategy, DispatchMetrics metrics, boolean traced,
+                       long slowListenerBudget, EventInterceptor[] interceptors) {
+            this.allCallbacks = allCallbacks;
+            this.callbacks = callbacks;
+            this.asyncCallbacks = asyncCallbacks;
+            this.syncIgnoreCancelledCount = syncIgnoreCancelledCount;
+            this.asyncCount = asyncCount;
+            this.skipOnCancelled = syncIgnoreCancelledCount == 0;
+            this.validationCount = validationCount;
+            this.rebakeCount = rebakeCount;
+            this.dispatchStrategy = dispatchStrategy;
+            this.metrics = metrics;
+            this.traced = traced;
+            this.slowListenerBudget = slowListenerBudget;
+            this.interceptors = interceptors.length == 0 ? null : interceptors;
+            // Loop dispatch doesn't need a dispatcher, metrics, tracing, slow listeners detection
+            // and interceptors always do
+            this.dispatcherResolved = metrics == null && !traced && slowListenerBudget == 0 &&
+                    this.interceptors == null &&
+                    (dispatchStrategy == DispatchStrategy.LOOP || callbacks.length == 0);
+        }
+
+        void invalidate() {
+            SwitchPoint switchPoint = this.switchPoint;
+            if (switchPoint != null) {
+                SwitchPoint.invalidateAll(new SwitchPoint[]{switchPoint});
+            }
+        }
+    }
+
+    /**
+     * Immutable sorted callbacks registered in a holder, with counts maintained incrementally,
+     * so registration cost scale with the change rather than with the callbacks count.
+     */
+    static final class RegisteredCallbacks {
+        static final RegisteredCallbacks EMPTY = new RegisteredCallbacks(EMPTY_EVENT_CALLBACKS, 0, 0);
+
+        final EventCallback[] callbacks;
+        final int syncIgnoreCancelledCount;
+        final int asyncCount;
+
+        private RegisteredCallbacks(EventCallback[] callbacks, int syncIgnoreCancelledCount, int asyncCount) {
+            this.callbacks = callbacks;
+            this.syncIgnoreCancelledCount = syncIgnoreCancelledCount;
+            this.asyncCount = asyncCount;
+        }
+
+        private static int syncIgnoreCancelled(EventCallback eventCallback) {
+            return eventCallback.ignoreCancelled && !eventCallback.isAsync() ? 1 : 0;
+        }
+
+        private static int async(EventCallback eventCallback) {
+            return eventCallback.isAsync() ? 1 : 0;
+        }
+
+        /**
+         * Find the callback with a binary search over callbacks of the same order.
+         */
+        int indexOf(EventCallback eventCallback, Comparator<EventCallback> comparator) {
+            EventCallback[] callbacks = this.callbacks;
+            int low = 0, high = callbacks.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (comparator.compare(callbacks[middle], eventCallback) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            for (int i = low; i < callbacks.length &&
+                    comparator.compare(callbacks[i], eventCallback) == 0; i++) {
+                if (callbacks[i] == eventCallback) {
+                    return i;
+                }
+            }
+            // The comparator may have changed since the callback was inserted
+            for (int i = 0; i < callbacks.length; i++) {
+                if (callbacks[i] == eventCallback) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        RegisteredCallbacks insert(EventCallback eventCallback, Comparator<EventCallback> comparator) {
+            EventCallback[] callbacks = this.callbacks;
+            // Insert after callbacks of the same order, to keep registration order
+            int low = 0, high = callbacks.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (comparator.compare(callbacks[middle], eventCallback) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            EventCallback[] result = new EventCallback[callbacks.length + 1];
+            System.arraycopy(callbacks, 0, result, 0, low);
+            result[low] = eventCallback;
+            System.arraycopy(callbacks, low, result, low + 1, callbacks.length - low);
+            return new RegisteredCallbacks(result,
+                    this.syncIgnoreCancelledCount + syncIgnoreCancelled(eventCallback),
+                    this.asyncCount + async(eventCallback));
+        }
+
+        RegisteredCallbacks remove(int index) {
+            EventCallback[] callbacks = this.callbacks;
+            if (callbacks.length == 1) {
+                return EMPTY;
+            }
+            EventCallback eventCallback = callbacks[index];
+            EventCallback[] result = new EventCallback[callbacks.length - 1];
+            System.arraycopy(callbacks, 0, result, 0, index);
+            System.arraycopy(callbacks, index + 1, result, index, result.length - index);
+            return new RegisteredCallbacks(result,
+                    this.syncIgnoreCancelledCount - syncIgnoreCancelled(eventCallback),
+                    this.asyncCount - async(eventCallback));
+        }
+
+        RegisteredCallbacks filter(Predicate<EventCallback> predicate) {
+            EventCallback[] callbacks = this.callbacks;
+            EventCallback[] result = null;
+            int length = 0, syncIgnoreCancelledCount = this.syncIgnoreCancelledCount, asyncCount = this.asyncCount;
+            for (int i = 0; i < callbacks.length; i++) {
+                EventCallback eventCallback = callbacks[i];
+                if (predicate.test(eventCallback)) {
+                    if (result == null) {
+                        result = new EventCallback[callbacks.length - 1];
+                        System.arraycopy(callbacks, 0, result, 0, i);
+                        length = i;
+                    }
+                    syncIgnoreCancelledCount -= syncIgnoreCancelled(eventCallback);
+                    asyncCount -= async(eventCallback);
+                } else if (result != null) {
+                    result[length++] = eventCallback;
+                }
+            }
+            if (result == null) {
+                return this;
+            }
+            if (length == 0) {
+                return EMPTY;
+            }
+            return new RegisteredCallbacks(Arrays.copyOf(result, length), syncIgnoreCancelledCount, asyncCount);
+        }
+    }
+
+    /**
+     * Async callbacks sharing the same executor, in dispatch order.
+     */
+    static final class AsyncCallbacks {
+        final Executor executor;
+        final EventCallback[] callbacks;
+
+        private AsyncCallbacks(Executor executor, EventCallback[] callbacks) {
+            this.executor = executor;
+            this.callbacks = callbacks;
+        }
+
+        static AsyncCallbacks[] group(FoxEvents foxEvents, EventCallback[] eventCallbacks) {
+            // Executors are resolved by key once per bake
+            LinkedHashMap<String, ArrayList<EventCallback>> groups = new LinkedHashMap<>();
+            for (EventCallback eventCallback : eventCallbacks) {
+                if (eventCallback.isAsync()) {
+                    groups.computeIfAbsent(eventCallback.asyncExecutor,
+                            k -> new ArrayList<>()).add(eventCallback);
+                }
+            }
+            AsyncCallbacks[] asyncCallbacks = new AsyncCallbacks[groups.size()];
+            int i = 0;
+            for (Map.Entry<String, ArrayList<EventCallback>> entry : groups.entrySet()) {
+                asyncCallbacks[i++] = new AsyncCallbacks(foxEvents.getHandlerExecutor(entry.getKey()),
+                        entry.getValue().toArray(EMPTY_EVENT_CALLBACKS));
+            }
+            return asyncCallbacks;
         }
     }
 }
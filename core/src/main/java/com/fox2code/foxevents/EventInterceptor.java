@@ -0,0 +1,85 @@
+package com.fox2code.foxevents;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Around-advice woven into the baked dispatch of event holders, can be used for tracing,
+ * context propagation, timing or permission checks.
+ * <p>
+ * Interceptors are installed with {@link FoxEvents#addEventInterceptor(EventInterceptor)}, and only
+ * woven when holders are baked, so holders without interceptors keep their usual dispatch.
+ * Only synchronous callbacks are intercepted, {@link EventHandler#async()} callbacks are not.
+ *
+ * @since 1.4.0
+ */
+public interface EventInterceptor {
+    /**
+     * Called when baking the event holder, the result is kept until the next bake.
+     *
+     * @param eventHolder the event holder being baked
+     * @return if {@link #aroundDispatch(EventHolder, Event, Proceed)} should wrap the holder dispatch
+     * @since 1.4.0
+     */
+    default boolean interceptsDispatch(@NotNull EventHolder<?> eventHolder) {
+        return false;
+    }
+
+    /**
+     * Called when baking the event holder, the result is kept until the next bake.
+     * <p>
+     * Holders with intercepted callbacks are dispatched with a loop, ignoring
+     * {@link FoxEvents#getDispatchStrategy(EventHolder)}, metrics and slow listeners detection.
+     *
+     * @param eventCallback the event callback being baked
+     * @return if {@link #aroundCallback(EventCallback, Event, Proceed)} should wrap the callback
+     * @since 1.4.0
+     */
+    default boolean interceptsCallback(@NotNull EventCallback eventCallback) {
+        return false;
+    }
+
+    /**
+     * Wrap the dispatch of an event to all synchronous callbacks of the holder.
+     *
+     * @param eventHolder the event holder dispatching the event
+     * @param event the event being dispatched
+     * @param proceed continue the dispatch, may be skipped to drop the event
+     * @throws Throwable if the interceptor or the dispatch failed
+     * @since 1.4.0
+     */
+    default void aroundDispatch(@NotNull EventHolder<?> eventHolder, @NotNull Event event,
+                                @NotNull Proceed proceed) throws Throwable {
+        proceed.proceed(event);
+    }
+
+    /**
+     * Wrap the call of a single callback, errors thrown by the callback are
+     * reported to {@link FoxEvents#onEventError(Event, EventCallback, Throwable)}
+     * after going through interceptors.
+     *
+     * @param eventCallback the event callback being called
+     * @param event the event being dispatched
+     * @param proceed call the callback, may be skipped to not call the callback
+     * @throws Throwable if the interceptor or the callback failed
+     * @since 1.4.0
+     */
+    default void aroundCallback(@NotNull EventCallback eventCallback, @NotNull Event event,
+                                @NotNull Proceed proceed) throws Throwable {
+        proceed.proceed(event);
+    }
+
+    /**
+     * Continuation of an intercepted dispatch or callback.
+     *
+     * @since 1.4.0
+     */
+    @FunctionalInterface
+    interface Proceed {
+        /**
+         * @param event the event to continue with
+         * @throws Throwable if the dispatch or callback failed
+         * @since 1.4.0
+         */
+        void proceed(@NotNull Event event) throws Throwable;
+    }
+}
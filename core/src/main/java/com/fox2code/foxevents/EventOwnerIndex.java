@@ -0,0 +1,116 @@
+package com.fox2code.foxevents;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Weak identity index from callback owners to the event holders they listen on.
+ * <p>
+ * Each owner entry count its registered callbacks per event holder, entries are removed
+ * when their last callback is unregistered, or when the owner is collected.
+ * Updates only lock the owner map bin, so registrations of different owners don't contend.
+ */
+final class EventOwnerIndex {
+    private static final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
+    private static final ConcurrentHashMap<OwnerReference, HolderCount[]>
+            ownersEventHolders = new ConcurrentHashMap<>();
+    private static final HolderCount[] EMPTY_HOLDER_COUNTS = new HolderCount[0];
+    private static final EventHolder<?>[] EMPTY_EVENT_HOLDERS = new EventHolder<?>[0];
+
+    private EventOwnerIndex() {}
+
+    static void add(@NotNull Object owner, @NotNull EventHolder<?> eventHolder) {
+        expungeStaleOwners();
+        ownersEventHolders.compute(new OwnerReference(owner, referenceQueue), (ownerReference, holderCounts) -> {
+            if (holderCounts == null) {
+                holderCounts = EMPTY_HOLDER_COUNTS;
+            }
+            for (int i = 0; i < holderCounts.length; i++) {
+                HolderCount holderCount = holderCounts[i];
+                if (holderCount.get() == eventHolder) {
+                    HolderCount[] result = holderCounts.clone();
+                    result[i] = new HolderCount(eventHolder, holderCount.count + 1);
+                    return result;
+                }
+            }
+            HolderCount[] result = new HolderCount[holderCounts.length + 1];
+            System.arraycopy(holderCounts, 0, result, 0, holderCounts.length);
+            result[holderCounts.length] = new HolderCount(eventHolder, 1);
+            return result;
+        });
+    }
+
+    static void remove(@NotNull Object owner, @NotNull EventHolder<?> eventHolder) {
+        ownersEventHolders.computeIfPresent(new OwnerReference(owner, null), (ownerReference, holderCounts) -> {
+            ArrayList<HolderCount> result = new ArrayList<>(holderCounts.length);
+            for (HolderCount holderCount : holderCounts) {
+                EventHolder<?> other = holderCount.get();
+                if (other == eventHolder) {
+                    if (holderCount.count > 1) {
+                        result.add(new HolderCount(eventHolder, holderCount.count - 1));
+                    }
+                } else if (other != null) {
+                    result.add(holderCount);
+                }
+            }
+            // Returning null remove the owner entry
+            return result.isEmpty() ? null : result.toArray(EMPTY_HOLDER_COUNTS);
+        });
+    }
+
+    static @NotNull EventHolder<?>[] remove(@NotNull Object owner) {
+        expungeStaleOwners();
+        HolderCount[] holderCounts = ownersEventHolders.remove(new OwnerReference(owner, null));
+        if (holderCounts == null) return EMPTY_EVENT_HOLDERS;
+        ArrayList<EventHolder<?>> result = new ArrayList<>(holderCounts.length);
+        for (HolderCount holderCount : holderCounts) {
+            EventHolder<?> eventHolder = holderCount.get();
+            if (eventHolder != null) {
+                result.add(eventHolder);
+            }
+        }
+        return result.toArray(EMPTY_EVENT_HOLDERS);
+    }
+
+    private static void expungeStaleOwners() {
+        Object reference;
+        while ((reference = referenceQueue.poll()) != null) {
+            ownersEventHolders.remove(reference);
+        }
+    }
+
+    private static final class HolderCount extends WeakReference<EventHolder<?>> {
+        final int count;
+
+        HolderCount(EventHolder<?> eventHolder, int count) {
+            super(eventHolder);
+            this.count = count;
+        }
+    }
+
+    private static final class OwnerReference extends WeakReference<Object> {
+        private final int hash;
+
+        OwnerReference(Object owner, ReferenceQueue<Object> referenceQueue) {
+            super(owner, referenceQueue);
+            this.hash = System.identityHashCode(owner);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof OwnerReference)) return false;
+            Object owner = this.get();
+            return owner != null && owner == ((OwnerReference) obj).get();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.fox2code.foxevents;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Pool of reusable events of an {@link EventHolder}, events are acquired, filled, then dispatched
+ * with {@link #callEvent(Event)}, which reset them with {@link Event#cleanUp()} and return them to the pool.
+ * <p>
+ * Pooled events must not be used once released, handlers keeping a reference to the event,
+ * including {@link EventHandler#async()} handlers, may see it after it has been reused.
+ * <p>
+ * When the {@code foxevents.pool-debug} system property is set, use after release
+ * and double release are detected, and throw an {@link IllegalStateException}.
+ *
+ * @param <T> the event type
+ * @since 1.4.0
+ */
+public abstract class EventPool<T extends Event> {
+    static final boolean DEBUG = Boolean.getBoolean("foxevents.pool-debug");
+    static final byte POOL_STATE_ACQUIRED = 1, POOL_STATE_RELEASED = 2;
+
+    private final EventHolder<T> eventHolder;
+    private final Supplier<? extends T> eventFactory;
+
+    EventPool(@NotNull EventHolder<T> eventHolder, @NotNull Supplier<? extends T> eventFactory) {
+        this.eventHolder = Objects.requireNonNull(eventHolder, "eventHolder == null");
+        this.eventFactory = Objects.requireNonNull(eventFactory, "eventFactory == null");
+    }
+
+    /**
+     * Create a pool keeping up to 16 events per thread.
+     *
+     * @param eventHolder the holder to dispatch events to
+     * @param eventFactory the factory used to create new events
+     * @param <T> the event type
+     * @return a new thread local pool
+     * @since 1.4.0
+     */
+    public static <T extends Event> @NotNull EventPool<T> threadLocal(
+            @NotNull EventHolder<T> eventHolder, @NotNull Supplier<? extends T> eventFactory) {
+        return new ThreadLocalEventPool<>(eventHolder, eventFactory, 16);
+    }
+
+    /**
+     * Create a pool keeping up to {@code maxPerThread} events per thread, events acquired
+     * and released on different threads are returned to the releasing thread pool.
+     *
+     * @param eventHolder the holder to dispatch events to
+     * @param eventFactory the factory used to create new events
+     * @param maxPerThread the maximum number of pooled events per thread
+     * @param <T> the event type
+     * @return a new thread local pool
+     * @since 1.4.0
+     */
+    public static <T extends Event> @NotNull EventPool<T> threadLocal(
+            @NotNull EventHolder<T> eventHolder, @NotNull Supplier<? extends T> eventFactory, int maxPerThread) {
+        if (maxPerThread < 1) {
+            throw new IllegalArgumentException("maxPerThread must be at least 1");
+        }
+        return new ThreadLocalEventPool<>(eventHolder, eventFactory, maxPerThread);
+    }
+
+    /**
+     * Create a pool shared by all threads, with a capacity of four events per available processor.
+     *
+     * @param eventHolder the holder to dispatch events to
+     * @param eventFactory the factory used to create new events
+     * @param <T> the event type
+     * @return a new striped pool
+     * @since 1.4.0
+     */
+    public static <T extends Event> @NotNull EventPool<T> striped(
+            @NotNull EventHolder<T> eventHolder, @NotNull Supplier<? extends T> eventFactory) {
+        return striped(eventHolder, eventFactory, Runtime.getRuntime().availableProcessors() * 4);
+    }
+
+    /**
+     * Create a pool shared by all threads, threads start looking for pooled events
+     * at different offsets to limit contention.
+     *
+     * @param eventHolder the holder to dispatch events to
+     * @param eventFactory the factory used to create new events
+     * @param capacity the maximum number of pooled events, rounded up to a power of two
+     * @param <T> the event type
+     * @return a new striped pool
+     * @since 1.4.0
+     */
+    public static <T extends Event> @NotNull EventPool<T> striped(
+            @NotNull EventHolder<T> eventHolder, @NotNull Supplier<? extends T> eventFactory, int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30");
+        }
+        return new StripedEventPool<>(eventHolder, eventFactory, capacity);
+    }
+
+    /**
+     * @return a clean event, from the pool if available
+     * @since 1.4.0
+     */
+    public final @NotNull T acquire() {
+        T event = this.poll();
+        if (event == null) {
+            event = this.eventHolder.getEvent().cast(Objects.requireNonNull(
+                    this.eventFactory.get(), "eventFactory returned null"));
+        }
+        if (DEBUG) {
+            event.poolState = POOL_STATE_ACQUIRED;
+        }
+        return event;
+    }
+
+    /**
+     * Reset the event with {@link Event#cleanUp()} and return it to the pool.
+     *
+     * @param event an event acquired from this pool
+     * @since 1.4.0
+     */
+    public final void release(@NotNull T event) {
+        if (DEBUG) {
+            if (event.poolState == POOL_STATE_RELEASED) {
+                throw new IllegalStateException("Event " + event.getClass().getName() + " already released");
+            }
+            event.poolState = POOL_STATE_RELEASED;
+        }
+        event.cleanUp();
+        this.offer(event);
+    }
+
+    /**
+     * Call the event through the event pipeline, then release it.
+     *
+     * @param event an event acquired from this pool
+     * @since 1.4.0
+     */
+    public final void callEvent(@NotNull T event) {
+        try {
+            this.eventHolder.callEvent(event);
+        } finally {
+            this.release(event);
+        }
+    }
+
+    /**
+     * Acquire an event, fill it with the filler, call it, then release it.
+     *
+     * @param filler used to fill the acquired event
+     * @since 1.4.0
+     */
+    public final void callEvent(@NotNull Consumer<? super T> filler) {
+        T event = this.acquire();
+        try {
+            filler.accept(event);
+        } catch (Throwable throwable) {
+            this.release(event);
+            throw throwable;
+        }
+        this.callEvent(event);
+    }
+
+    /**
+     * Acquire an event, fill it with the filler, call it, then release it,
+     * non-capturing fillers allow to call events without any allocation.
+     *
+     * @param filler used to fill the acquired event
+     * @param arg the argument passed to the filler
+     * @param <A> the argument type
+     * @since 1.4.0
+     */
+    public final <A> void callEvent(@NotNull BiConsumer<? super T, ? super A> filler, A arg) {
+        T event = this.acquire();
+        try {
+            filler.accept(event, arg);
+        } catch (Throwable throwable) {
+            this.release(event);
+            throw throwable;
+        }
+        this.callEvent(event);
+    }
+
+    /**
+     * @return the event holder events are dispatched to
+     * @since 1.4.0
+     */
+    @Contract(pure = true)
+    public final @NotNull EventHolder<T> getEventHolder() {
+        return this.eventHolder;
+    }
+
+    /**
+     * @return a pooled event, or {@code null} if none are available
+     */
+    abstract T poll();
+
+    /**
+     * @param event the event to pool, may be dropped if the pool is full
+     */
+    abstract void offer(T event);
+
+    static void checkNotReleased(Event event) {
+        if (event.poolState == POOL_STATE_RELEASED) {
+            throw new IllegalStateException("Event " + event.getClass().getName() + " used after release");
+        }
+    }
+}
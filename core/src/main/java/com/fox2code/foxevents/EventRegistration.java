@@ -0,0 +1,65 @@
+package com.fox2code.foxevents;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Handle of registered event callbacks, unregistering it only touches
+ * the event holders the callbacks were registered to.
+ *
+ * @since 1.4.0
+ */
+public final class EventRegistration {
+    private final EventCallback[] eventCallbacks;
+    private volatile boolean unregistered;
+
+    EventRegistration(@NotNull EventCallback[] eventCallbacks) {
+        this.eventCallbacks = eventCallbacks;
+    }
+
+    /**
+     * @return the registered event callbacks
+     * @since 1.4.0
+     */
+    @Contract(pure = true)
+    public @NotNull List<EventCallback> getEventCallbacks() {
+        return Collections.unmodifiableList(Arrays.asList(this.eventCallbacks));
+    }
+
+    /**
+     * @return if {@link #unregister()} has been called
+     * @since 1.4.0
+     */
+    @Contract(pure = true)
+    public boolean isUnregistered() {
+        return this.unregistered;
+    }
+
+    /**
+     * Unregister the event callbacks of this registration, event holders
+     * are only re-baked once, even if multiple callbacks were registered on them.
+     *
+     * @return if any event callback has been unregistered
+     * @since 1.4.0
+     */
+    public boolean unregister() {
+        if (this.unregistered) return false;
+        this.unregistered = true;
+        if (this.eventCallbacks.length == 1) {
+            return this.eventCallbacks[0].eventHolder.unregisterEventCallback(this.eventCallbacks[0]);
+        }
+        IdentityHashMap<EventHolder<?>, Boolean> eventHolders = new IdentityHashMap<>();
+        boolean unregistered = false;
+        for (EventCallback eventCallback : this.eventCallbacks) {
+            if (eventHolders.put(eventCallback.eventHolder, Boolean.TRUE) == null) {
+                unregistered |= eventCallback.eventHolder.unregisterEventCallbacks(this.eventCallbacks);
+            }
+        }
+        return unregistered;
+    }
+}
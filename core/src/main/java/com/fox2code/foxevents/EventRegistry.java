@@ -0,0 +1,120 @@
+package com.fox2code.foxevents;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Predicate;
+
+/**
+ * Implementation of {@link EventRegistryMXBean}, disabled listeners are kept here
+ * until they are enabled again.
+ * <p>
+ * Disabled listeners are strongly referenced, with their handlers and class loaders,
+ * weak listeners only keep their handler weakly referenced, they are dropped when
+ * their owner or themselves are unregistered, so they can't pin an unloaded class loader.
+ */
+final class EventRegistry implements EventRegistryMXBean {
+    static final EventRegistry INSTANCE = new EventRegistry();
+    private static final AtomicLongFieldUpdater<EventCallback> LISTENER_ID_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(EventCallback.class, "listenerId");
+    private static final AtomicLong nextListenerId = new AtomicLong();
+    private final ConcurrentHashMap<String, EventCallback> disabledListeners = new ConcurrentHashMap<>();
+
+    private EventRegistry() {}
+
+    static String getListenerId(EventCallback eventCallback) {
+        // Assigned on first use, so registration doesn't pay for it
+        long listenerId = eventCallback.listenerId;
+        if (listenerId == 0) {
+            LISTENER_ID_UPDATER.compareAndSet(eventCallback, 0, nextListenerId.incrementAndGet());
+            listenerId = eventCallback.listenerId;
+        }
+        Object holder = eventCallback.getHolder();
+        String handlerClass = holder == null ? "<static>" : holder instanceof Class ?
+                ((Class<?>) holder).getName() : holder.getClass().getName();
+        return eventCallback.eventHolder.getEventName() + "/" + handlerClass +
+                "#" + listenerId;
+    }
+
+    /**
+     * Drop disabled listeners matching the predicate, so they can't be enabled again.
+     *
+     * @param predicate the disabled listeners to drop
+     * @return if any disabled listener has been dropped
+     */
+    boolean dropDisabledListeners(Predicate<EventCallback> predicate) {
+        return !this.disabledListeners.isEmpty() && this.disabledListeners.values().removeIf(predicate);
+    }
+
+    @Override
+    public int getEventHolderCount() {
+        return EventHolder.getAllEventHolders().size();
+    }
+
+    @Override
+    public @NotNull EventHolderInfo[] getEventHolders() {
+        ArrayList<EventHolder<?>> eventHolders = EventHolder.getAllEventHolders();
+        EventHolderInfo[] eventHolderInfos = new EventHolderInfo[eventHolders.size()];
+        for (int i = 0; i < eventHolderInfos.length; i++) {
+            eventHolderInfos[i] = new EventHolderInfo(eventHolders.get(i));
+        }
+        return eventHolderInfos;
+    }
+
+    @Override
+    public @NotNull EventListenerInfo[] getDisabledListeners() {
+        ArrayList<EventListenerInfo> eventListenerInfos = new ArrayList<>();
+        for (EventCallback eventCallback : this.disabledListeners.values()) {
+            eventListenerInfos.add(new EventListenerInfo(eventCallback));
+        }
+        return eventListenerInfos.toArray(new EventListenerInfo[0]);
+    }
+
+    @Override
+    public @NotNull EventListenerInfo[] getListeners(@NotNull String eventName) {
+        ArrayList<EventListenerInfo> eventListenerInfos = new ArrayList<>();
+        for (EventHolder<?> eventHolder : EventHolder.getAllEventHolders()) {
+            if (!eventHolder.getEventName().equals(eventName)) continue;
+            for (EventCallback eventCallback : eventHolder.getRegisteredCallbacks()) {
+                eventListenerInfos.add(new EventListenerInfo(eventCallback));
+            }
+        }
+        return eventListenerInfos.toArray(new EventListenerInfo[0]);
+    }
+
+    @Override
+    public void ensureBaked() {
+        for (EventHolder<?> eventHolder : EventHolder.getAllEventHolders()) {
+            eventHolder.ensureBaked();
+        }
+    }
+
+    @Override
+    public void invalidateCallbackValidators() {
+        EventHolder.invalidateAllValidators();
+    }
+
+    @Override
+    public boolean disableListener(@NotNull String listenerId) {
+        for (EventHolder<?> eventHolder : EventHolder.getAllEventHolders()) {
+            if (!listenerId.startsWith(eventHolder.getEventName() + "/")) continue;
+            for (EventCallback eventCallback : eventHolder.getRegisteredCallbacks()) {
+                if (listenerId.equals(getListenerId(eventCallback)) &&
+                        eventHolder.unregisterEventCallback(eventCallback)) {
+                    this.disabledListeners.put(listenerId, eventCallback);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean enableListener(@NotNull String listenerId) {
+        EventCallback eventCallback = this.disabledListeners.remove(listenerId);
+        return eventCallback != null && eventCallback.eventHolder.registerEventCallback(eventCallback);
+    }
+}
@@ -0,0 +1,291 @@
+package com.fox2code.foxevents;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Management interface of the event registry, registered with {@link FoxEventsManagement#register()}.
+ * <p>
+ * Everything is computed when read, so the registry has no cost while no JMX client is connected.
+ *
+ * @since 1.4.0
+ */
+public interface EventRegistryMXBean {
+    /**
+     * @return the number of event holders across all class loaders
+     * @since 1.4.0
+     */
+    int getEventHolderCount();
+
+    /**
+     * @return the event holders across all class loaders
+     * @since 1.4.0
+     */
+    @NotNull EventHolderInfo[] getEventHolders();
+
+    /**
+     * @return listeners disabled with {@link #disableListener(String)}
+     * @since 1.4.0
+     */
+    @NotNull EventListenerInfo[] getDisabledListeners();
+
+    /**
+     * @param eventName the event class name
+     * @return the listeners registered on event holders of this name, on all class loaders
+     * @since 1.4.0
+     */
+    @NotNull EventListenerInfo[] getListeners(@NotNull String eventName);
+
+    /**
+     * Call {@link EventHolder#ensureBaked()} on all event holders.
+     *
+     * @since 1.4.0
+     */
+    void ensureBaked();
+
+    /**
+     * Force callbacks to revaluate validators, this will be done lazily.
+     *
+     * @since 1.4.0
+     */
+    void invalidateCallbackValidators();
+
+    /**
+     * Unregister a listener until it is enabled again with {@link #enableListener(String)}.
+     * <p>
+     * The registry keep a strong reference to disabled listeners, and so to their handler
+     * and class loader, until they are enabled again, weak listeners handlers are still weakly referenced.
+     * Disabled listeners are dropped when their owner is unregistered, or when they are unregistered.
+     *
+     * @param listenerId the id of the listener, as returned by {@link EventListenerInfo#getId()}
+     * @return if a registered listener has been disabled
+     * @since 1.4.0
+     */
+    boolean disableListener(@NotNull String listenerId);
+
+    /**
+     * Register again a listener disabled with {@link #disableListener(String)}.
+     *
+     * @param listenerId the id of the listener, as returned by {@link EventListenerInfo#getId()}
+     * @return if a disabled listener has been enabled
+     * @since 1.4.0
+     */
+    boolean enableListener(@NotNull String listenerId);
+
+    /**
+     * Snapshot of an {@link EventHolder} state.
+     *
+     * @since 1.4.0
+     */
+    final class EventHolderInfo {
+        private final String eventName;
+        private final String classLoader;
+        private final int listenerCount;
+        private final int bakedListenerCount;
+        private final boolean baked;
+        private final String dispatcher;
+        private final String delegate;
+        private final String[] delegatedChildren;
+        private final boolean cancellable;
+        private final DispatchMetrics.Snapshot metrics;
+
+        EventHolderInfo(EventHolder<?> eventHolder) {
+            Class<?> eventClass = eventHolder.peekEvent();
+            this.eventName = eventHolder.getEventName();
+            this.classLoader = eventClass == null ? null : String.valueOf(eventClass.getClassLoader());
+            this.listenerCount = eventHolder.getRegisteredCallbacks().length;
+            EventHolder.BakedCallbacks bakedCallbacks = eventHolder.peekBakedCallbacks();
+            this.bakedListenerCount = bakedCallbacks == null ? 0 : bakedCallbacks.allCallbacks.length;
+            this.baked = bakedCallbacks != null && bakedCallbacks.dispatcherResolved &&
+                    bakedCallbacks.rebakeCount == EventHolder.rebakeModCount;
+            EventDispatcher eventDispatcher = bakedCallbacks == null ? null : bakedCallbacks.dispatcher;
+            this.dispatcher = eventDispatcher != null ? eventDispatcher.getClass().getName() :
+                    bakedCallbacks != null && bakedCallbacks.dispatcherResolved ? "loop" : null;
+            EventHolder<?> delegate = eventHolder.getDelegate();
+            this.delegate = delegate == null ? null : delegate.getEventName();
+            EventHolder<?>[] delegatedChilds = eventHolder.getDelegatedChilds();
+            this.delegatedChildren = new String[delegatedChilds.length];
+            for (int i = 0; i < delegatedChilds.length; i++) {
+                this.delegatedChildren[i] = delegatedChilds[i].getEventName();
+            }
+            this.cancellable = eventHolder.isCancellable();
+            DispatchMetrics metrics = eventHolder.getMetrics();
+            this.metrics = metrics == null ? null : metrics.snapshot();
+        }
+
+        /**
+         * @return the event class name
+         * @since 1.4.0
+         */
+        public @NotNull String getEventName() {
+            return this.eventName;
+        }
+
+        /**
+         * @return the event class loader, or {@code null} if the event class has been unloaded
+         * @since 1.4.0
+         */
+        public @Nullable String getClassLoader() {
+            return this.classLoader;
+        }
+
+        /**
+         * @return the number of listeners registered on this holder, excluding delegates
+         * @since 1.4.0
+         */
+        public int getListenerCount() {
+            return this.listenerCount;
+        }
+
+        /**
+         * @return the number of baked listeners, including delegates
+         * @since 1.4.0
+         */
+        public int getBakedListenerCount() {
+            return this.bakedListenerCount;
+        }
+
+        /**
+         * @return if the holder is baked and its validators and config are up-to-date
+         * @since 1.4.0
+         */
+        public boolean isBaked() {
+            return this.baked;
+        }
+
+        /**
+         * @return the baked dispatcher class name, {@code "loop"} for loop dispatch,
+         * or {@code null} if not resolved yet
+         * @since 1.4.0
+         */
+        public @Nullable String getDispatcher() {
+            return this.dispatcher;
+        }
+
+        /**
+         * @return the event name of the holder this holder delegate to, if any
+         * @since 1.4.0
+         */
+        public @Nullable String getDelegate() {
+            return this.delegate;
+        }
+
+        /**
+         * @return the event names of holders delegating to this holder
+         * @since 1.4.0
+         */
+        public @NotNull String[] getDelegatedChildren() {
+            return this.delegatedChildren.clone();
+        }
+
+        /**
+         * @return if the event is cancellable
+         * @since 1.4.0
+         */
+        public boolean isCancellable() {
+            return this.cancellable;
+        }
+
+        /**
+         * @return the dispatch metrics, or {@code null} if metrics were never enabled for the holder
+         * @since 1.4.0
+         */
+        public @Nullable DispatchMetrics.Snapshot getMetrics() {
+            return this.metrics;
+        }
+    }
+
+    /**
+     * Snapshot of an {@link EventCallback} state.
+     *
+     * @since 1.4.0
+     */
+    final class EventListenerInfo {
+        private final String id;
+        private final String eventName;
+        private final String handlerClass;
+        private final int priority;
+        private final boolean ignoreCancelled;
+        private final String asyncExecutor;
+        private final boolean registered;
+        private final DispatchMetrics.Snapshot metrics;
+
+        EventListenerInfo(EventCallback eventCallback) {
+            this.id = EventRegistry.getListenerId(eventCallback);
+            this.eventName = eventCallback.eventHolder.getEventName();
+            Object holder = eventCallback.getHolder();
+            this.handlerClass = holder == null ? null : holder instanceof Class ?
+                    ((Class<?>) holder).getName() : holder.getClass().getName();
+            this.priority = eventCallback.priority;
+            this.ignoreCancelled = eventCallback.ignoreCancelled;
+            this.asyncExecutor = eventCallback.asyncExecutor;
+            this.registered = eventCallback.isRegistered();
+            DispatchMetrics metrics = eventCallback.getMetrics();
+            this.metrics = metrics == null ? null : metrics.snapshot();
+        }
+
+        /**
+         * @return the listener id, unique and stable for the listener lifetime
+         * @since 1.4.0
+         */
+        public @NotNull String getId() {
+            return this.id;
+        }
+
+        /**
+         * @return the event class name
+         * @since 1.4.0
+         */
+        public @NotNull String getEventName() {
+            return this.eventName;
+        }
+
+        /**
+         * @return the class of the instance holding the handler, or {@code null} if unknown
+         * @since 1.4.0
+         */
+        public @Nullable String getHandlerClass() {
+            return this.handlerClass;
+        }
+
+        /**
+         * @return the listener priority
+         * @since 1.4.0
+         */
+        public int getPriority() {
+            return this.priority;
+        }
+
+        /**
+         * @return if the listener is called even if the event is cancelled
+         * @since 1.4.0
+         */
+        public boolean isIgnoreCancelled() {
+            return this.ignoreCancelled;
+        }
+
+        /**
+         * @return the executor key of async listeners, or {@code null} for synchronous listeners
+         * @since 1.4.0
+         */
+        public @Nullable String getAsyncExecutor() {
+            return this.asyncExecutor;
+        }
+
+        /**
+         * @return if the listener is registered
+         * @since 1.4.0
+         */
+        public boolean isRegistered() {
+            return this.registered;
+        }
+
+        /**
+         * @return the dispatch metrics, or {@code null} if metrics were never enabled for the listener
+         * @since 1.4.0
+         */
+        public @Nullable DispatchMetrics.Snapshot getMetrics() {
+            return this.metrics;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.fox2code.foxevents;
+
+/**
+ * Java Flight Recorder integration, Java 8 has no JFR events API, so this is a no-op.
+ * <p>
+ * Java 11+ emit JFR events instead, via the multi-release jar.
+ */
+final class FlightRecorderSupport {
+    private FlightRecorderSupport() {}
+
+    /**
+     * Called when baking, holders are re-baked when recordings start or stop.
+     *
+     * @return if dispatches should be traced
+     */
+    static boolean isDispatchTraced() {
+        return false;
+    }
+
+    /**
+     * @param slowListenerBudget the slow listener budget, reported by the dispatcher if not {@code 0}
+     * @return a dispatcher emitting dispatch events, or {@code null} if dispatches are not traced
+     */
+    static EventDispatcher makeDispatcher(EventHolder<?> eventHolder, EventCallback[] eventCallbacks,
+                                          boolean skipOnCancelled, long slowListenerBudget) {
+        return null;
+    }
+
+    static Object beginRebake() {
+        return null;
+    }
+
+    static void endRebake(Object rebakeEvent, EventHolder<?> eventHolder, int callbacks) {}
+
+    static Object beginRegistrationScan() {
+        return null;
+    }
+
+    static void endRegistrationScan(Object registrationScanEvent, Class<?> handlerClass, int callbacks) {}
+}
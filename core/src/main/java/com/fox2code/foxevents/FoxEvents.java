@@ -5,15 +5,21 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import javax.management.JMException;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -23,7 +29,20 @@ import java.util.logging.Logger;
  */
 public abstract class FoxEvents {
     public static final Logger LOGGER = Logger.getLogger("FoxEvents");
+    private static final boolean lambdaCallbacks = Boolean.getBoolean("foxevents.lambda-callbacks");
+
+    static {
+        if (Boolean.getBoolean("foxevents.jmx")) {
+            try {
+                FoxEventsManagement.register();
+            } catch (JMException e) {
+                LOGGER.log(Level.WARNING, "Failed to register the FoxEvents MBean", e);
+            }
+        }
+    }
+
     final Comparator<EventCallback> comparator = this::compare;
+    private final List<EventInterceptor> eventInterceptors = new CopyOnWriteArrayList<>();
     static FoxEvents foxEvents;
     boolean unsafeAccess;
 
@@ -93,7 +112,58 @@ public abstract class FoxEvents {
      */
     protected final void invalidateCallbackValidators() {
         this.ensureInstanceAccess();
-        EventHolder.validationModCount++;
+        EventHolder.invalidateAllValidators();
+    }
+
+    /**
+     * Used to force event holders to be baked again, without evaluating validators, this will be done lazily.
+     * <p>
+     * Call this after changing the config returned by hooks called while baking,
+     * like {@link #getDispatchStrategy(EventHolder)}.
+     *
+     * @since 1.4.0
+     */
+    protected final void invalidateBakedCallbacks() {
+        this.ensureInstanceAccess();
+        EventHolder.invalidateAllBakedCallbacks();
+    }
+
+    /**
+     * Used to revaluate validators of a single event holder now, other event holders are not affected.
+     * <p>
+     * Event holders delegating to this event holder are re-baked if any callback has been removed.
+     *
+     * @param eventHolder the event holder to revaluate validators of
+     * @return if any callback has been removed
+     * @since 1.4.0
+     */
+    protected final boolean invalidateCallbackValidators(@NotNull EventHolder<?> eventHolder) {
+        this.ensureInstanceAccess();
+        return eventHolder.revalidateCallbacks();
+    }
+
+    /**
+     * Used to revaluate a single validator now, only event holders having callbacks
+     * using this validator are affected, and the validator is only evaluated once.
+     *
+     * @param validator the validator to revaluate
+     * @return if any callback has been removed
+     * @since 1.4.0
+     */
+    protected final boolean invalidateCallbackValidators(@NotNull BooleanSupplier validator) {
+        this.ensureInstanceAccess();
+        return EventHolder.revalidateCallbacks(validator);
+    }
+
+    /**
+     * Get the event registry, without requiring it to be registered in the platform MBean server.
+     *
+     * @return the event registry
+     * @since 1.4.0
+     */
+    protected final @NotNull EventRegistryMXBean getEventRegistry() {
+        this.ensureInstanceAccess();
+        return EventRegistry.INSTANCE;
     }
 
     /**
@@ -143,6 +213,79 @@ public abstract class FoxEvents {
                 ignoreCancelled, priority, validator);
     }
 
+    /**
+     * Make an event callback without ensuring version compatibility.
+     * @param eventHolder the event holder
+     * @param holder the instance holder
+     * @param eventCallback the event callback
+     * @param ignoreCancelled if the handler should be called even if the event is cancelled
+     * @param priority the priority of the event
+     * @param validator the validator of the event
+     * @param asyncExecutor the executor key if the handler is async, or {@code null}
+     * @return the new {@link EventCallback}
+     * @since 1.4.0
+     */
+    @ApiStatus.Internal
+    @Contract(pure = true)
+    protected final @NotNull EventCallback makeEventCallbackRaw(
+            @NotNull EventHolder<?> eventHolder,@Nullable Object holder,@NotNull MethodHandle eventCallback,
+            boolean ignoreCancelled, int priority,@Nullable BooleanSupplier validator,@Nullable String asyncExecutor) {
+        this.ensureInstanceAccess();
+        return new EventCallback(eventHolder, holder, eventCallback,
+                null, ignoreCancelled, priority, validator, asyncExecutor);
+    }
+
+    /**
+     * Make a weak event callback without ensuring version compatibility.
+     * @param eventHolder the event holder
+     * @param holder the instance holder, only weakly referenced
+     * @param eventCallback the event callback, taking the instance holder as first argument
+     * @param ignoreCancelled if the handler should be called even if the event is cancelled
+     * @param priority the priority of the event
+     * @param validator the validator of the event
+     * @param asyncExecutor the executor key if the handler is async, or {@code null}
+     * @return the new {@link EventCallback}
+     * @since 1.4.0
+     */
+    @ApiStatus.Internal
+    @Contract(pure = true)
+    protected final @NotNull EventCallback makeWeakEventCallbackRaw(
+            @NotNull EventHolder<?> eventHolder,@NotNull Object holder,@NotNull MethodHandle eventCallback,
+            boolean ignoreCancelled, int priority,@Nullable BooleanSupplier validator,@Nullable String asyncExecutor) {
+        this.ensureInstanceAccess();
+        return new EventCallback(eventHolder, new WeakEventListener(holder, eventCallback),
+                ignoreCancelled, priority, validator, asyncExecutor);
+    }
+
+    /**
+     * Begin a Java Flight Recorder registration scan event, for implementations scanning
+     * handlers without {@link #getEventCallbacks(Object)}, to be ended with
+     * {@link #endRegistrationScan(Object, Class, int)}.
+     * @return the registration scan event, or {@code null} if it is not recorded
+     * @since 1.4.0
+     */
+    @ApiStatus.Internal
+    protected final @Nullable Object beginRegistrationScan() {
+        this.ensureInstanceAccess();
+        return FlightRecorderSupport.beginRegistrationScan();
+    }
+
+    /**
+     * End a Java Flight Recorder registration scan event begun with {@link #beginRegistrationScan()}.
+     * @param registrationScanEvent the registration scan event, or {@code null} if it is not recorded
+     * @param handlerClass the scanned handler class
+     * @param callbacks the number of event callbacks found
+     * @since 1.4.0
+     */
+    @ApiStatus.Internal
+    protected final void endRegistrationScan(
+            @Nullable Object registrationScanEvent,@NotNull Class<?> handlerClass, int callbacks) {
+        this.ensureInstanceAccess();
+        if (registrationScanEvent != null) {
+            FlightRecorderSupport.endRegistrationScan(registrationScanEvent, handlerClass, callbacks);
+        }
+    }
+
     /**
      * Used to get the EventCallbacks of an event handler.
      * @param instance the instance to get the event callbacks of
@@ -200,34 +343,70 @@ public abstract class FoxEvents {
     protected final @NotNull ArrayList<EventCallback> getEventCallbacks(
             @NotNull Object instance, @Nullable BooleanSupplier validator,
             boolean ignoreInvalid, @Nullable MethodHandles.Lookup lookup) throws EventRegistrationException {
+        return this.getEventCallbacks(instance, validator, ignoreInvalid, lookup, false);
+    }
+
+    /**
+     * Used to get the EventCallbacks of an event handler.
+     * <p>
+     * Weak event callbacks do not prevent the instance from being garbage collected, and are
+     * removed from their event holders in background once the instance has been collected.
+     *
+     * @param instance the instance to get the event callbacks of
+     * @param validator the validator, or null if the result is always {@code true}.
+     * @param ignoreInvalid should it skip invalid event callback instead of throwing {@link EventRegistrationException}.
+     * @param lookup the lookup used to resolve methods
+     * @param weak if the event callbacks should only weakly reference the instance
+     * @return an {@link ArrayList} of all registered event callbacks
+     * @throws EventRegistrationException if we failed to acquire all event callbacks
+     * @since 1.4.0
+     */
+    @Contract(pure = true)
+    protected final @NotNull ArrayList<EventCallback> getEventCallbacks(
+            @NotNull Object instance, @Nullable BooleanSupplier validator, boolean ignoreInvalid,
+            @Nullable MethodHandles.Lookup lookup, boolean weak) throws EventRegistrationException {
         this.ensureInstanceAccess();
+        Object registrationScanEvent = FlightRecorderSupport.beginRegistrationScan();
         ArrayList<EventCallback> eventCallbacks = new ArrayList<>();
         boolean isStatic = instance instanceof Class;
         Class<?> handlerClass = isStatic ? (Class<?>) instance : instance.getClass();
         if (lookup == null) {
             lookup = MethodHandles.publicLookup();
         }
-        for (Method method : handlerClass.getMethods()) {
-            if (method.isBridge() || method.isSynthetic() ||
-                    Modifier.isStatic(method.getModifiers()) != isStatic) continue;
-            EventHandler eventHandler = method.getAnnotation(EventHandler.class);
-            if (eventHandler == null) continue;
-            Class<?>[] args = method.getParameterTypes();
-            if (args.length != 1) continue;
-            EventHolder<?> eventHolder = EventHolder.getHolderFromEventRaw(args[0]);
+        weak &= !isStatic;
+        boolean lambdaCallbacks = !weak && this.isUsingLambdaCallbacks() &&
+                (lookup.lookupModes() & MethodHandles.Lookup.PRIVATE) != 0;
+        HandlerMetadata handlerMetadata = HandlerMetadata.getHandlerMetadata(handlerClass);
+        for (HandlerMetadata.Entry entry : isStatic ?
+                handlerMetadata.staticEntries : handlerMetadata.instanceEntries) {
+            EventHolder<?> eventHolder = EventHolder.getHolderFromEventRaw(entry.eventClass);
             MethodHandle methodHandle;
+            Consumer<Event> eventInvoker = null;
             try {
-                methodHandle = lookup.unreflect(method);
-                if (!isStatic) {
+                methodHandle = entry.unreflect(lookup);
+                if (lambdaCallbacks) {
+                    MethodHandle lambdaFactory = entry.getLambdaFactory(lookup);
+                    if (lambdaFactory != null) {
+                        eventInvoker = EventCallback.makeLambdaInvoker(
+                                lambdaFactory, isStatic ? null : instance);
+                    }
+                }
+                if (!isStatic && !weak) {
                     methodHandle = methodHandle.bindTo(instance);
                 }
             } catch (IllegalAccessException e) {
                 if (ignoreInvalid) continue;
-                throw new EventRegistrationException("Failed to un-reflect method " + method.getName(), e);
+                throw new EventRegistrationException("Failed to un-reflect method " + entry.method.getName(), e);
+            }
+            if (weak) {
+                eventCallbacks.add(new EventCallback(eventHolder, new WeakEventListener(instance, methodHandle),
+                        entry.ignoreCancelled, entry.priority, validator, entry.asyncExecutor));
+                continue;
             }
             eventCallbacks.add(new EventCallback(eventHolder, isStatic ? null : instance, methodHandle,
-                    eventHandler.ignoreCancelled(), eventHandler.priority(), validator));
+                    eventInvoker, entry.ignoreCancelled, entry.priority, validator, entry.asyncExecutor));
         }
+        FlightRecorderSupport.endRegistrationScan(registrationScanEvent, handlerClass, eventCallbacks.size());
         return eventCallbacks;
     }
 
@@ -255,6 +434,44 @@ public abstract class FoxEvents {
         return eventCallback.eventHolder.unregisterEventCallback(eventCallback);
     }
 
+    /**
+     * Register event callbacks, and return a handle allowing to unregister them.
+     *
+     * @param eventCallbacks event callbacks to register
+     * @return the registration handle of the event callbacks that were added
+     * @since 1.4.0
+     */
+    protected final @NotNull EventRegistration registerEventCallbacks(
+            @NotNull Collection<EventCallback> eventCallbacks) {
+        this.ensureInstanceAccess();
+        ArrayList<EventCallback> registered = new ArrayList<>(eventCallbacks.size());
+        for (EventCallback eventCallback : eventCallbacks) {
+            if (eventCallback.eventHolder.registerEventCallback(eventCallback)) {
+                registered.add(eventCallback);
+            }
+        }
+        return new EventRegistration(registered.toArray(new EventCallback[0]));
+    }
+
+    /**
+     * Unregister event handlers that are owned by the instance, only event holders
+     * the instance listen on are affected, regardless of their class loader.
+     *
+     * @param instance to unregister events from.
+     * @return if any event has been unregistered
+     * @since 1.4.0
+     */
+    protected final boolean unregisterEventsFromOwner(@NotNull Object instance) {
+        this.ensureInstanceAccess();
+        boolean ret = false;
+        for (EventHolder<?> eventHolder : EventOwnerIndex.remove(instance)) {
+            ret |= eventHolder.unregisterEventCallbackFromInstance(instance);
+        }
+        // Disabled listeners are not indexed, as they are not registered
+        ret |= EventRegistry.INSTANCE.dropDisabledListeners(eventCallback -> eventCallback.getHolder() == instance);
+        return ret;
+    }
+
     /**
      * Unregister event handlers that are owned by the instance
      *
@@ -268,6 +485,7 @@ public abstract class FoxEvents {
         final boolean[] ret = new boolean[]{false};
         EventHolder.forEachEventHolder(classLoader,
                 holder -> ret[0] |= holder.unregisterEventCallbackFromInstance(instance));
+        ret[0] |= EventRegistry.INSTANCE.dropDisabledListeners(eventCallback -> eventCallback.getHolder() == instance);
         return ret[0];
     }
 
@@ -290,6 +508,67 @@ public abstract class FoxEvents {
      */
     public abstract void registerEvents(@NotNull Object handler,@Nullable BooleanSupplier validator) throws EventRegistrationException;
 
+    /**
+     * Method used to register event handles from an instance, and get a registration handle
+     *
+     * @param handler event handler to register
+     * @return the registration handle
+     * @throws EventRegistrationException if failed to register the handler
+     * @since 1.4.0
+     */
+    public @NotNull EventRegistration registerEventsHandle(@NotNull Object handler) throws EventRegistrationException {
+        return this.registerEventsHandle(handler, null);
+    }
+
+    /**
+     * Method used to register event handles from an instance, and get a registration handle
+     *
+     * @param handler event handler to register
+     * @param validator used to detect when handlers should be invalid
+     * @return the registration handle
+     * @throws EventRegistrationException if failed to register the handler
+     * @since 1.4.0
+     */
+    public @NotNull EventRegistration registerEventsHandle(
+            @NotNull Object handler, @Nullable BooleanSupplier validator) throws EventRegistrationException {
+        return this.registerEventCallbacks(this.getEventCallbacks(handler, validator));
+    }
+
+    /**
+     * Method used to register event handles from an instance, and get a registration handle,
+     * resolving handlers with the caller lookup.
+     * <p>
+     * A lookup with private access to the handler class allow non-public handlers, and
+     * {@link #isUsingLambdaCallbacks() lambda backed event callbacks}, typically {@link MethodHandles#lookup()}.
+     *
+     * @param handler event handler to register
+     * @param validator used to detect when handlers should be invalid
+     * @param lookup the lookup used to resolve handlers
+     * @return the registration handle
+     * @throws EventRegistrationException if failed to register the handler
+     * @since 1.4.0
+     */
+    public @NotNull EventRegistration registerEventsHandle(@NotNull Object handler, @Nullable BooleanSupplier validator,
+            @NotNull MethodHandles.Lookup lookup) throws EventRegistrationException {
+        Objects.requireNonNull(lookup, "lookup == null");
+        return this.registerEventCallbacks(this.getEventCallbacks(handler, validator, false, lookup));
+    }
+
+    /**
+     * Method used to register event handles from an instance without keeping a strong reference to it,
+     * event handlers are unregistered automatically once the instance has been garbage collected.
+     *
+     * @param handler event handler to register
+     * @param validator used to detect when handlers should be invalid
+     * @return the registration handle
+     * @throws EventRegistrationException if failed to register the handler
+     * @since 1.4.0
+     */
+    public @NotNull EventRegistration registerEventsWeak(
+            @NotNull Object handler, @Nullable BooleanSupplier validator) throws EventRegistrationException {
+        return this.registerEventCallbacks(this.getEventCallbacks(handler, validator, false, null, true));
+    }
+
     /**
      * Method used to unregister event handles from an instance
      *
@@ -310,6 +589,32 @@ public abstract class FoxEvents {
         sneakyThrow(throwable);
     }
 
+    /**
+     * Callback called when a sampled event callback call exceeded the budget returned by
+     * {@link #getSlowListenerBudget(EventHolder)}, called on the dispatching thread.
+     * <p>
+     * By default, log a warning, and quarantine the callback after the number of consecutive
+     * slow calls set by the {@code foxevents.slow-listener-quarantine} system property, if set.
+     * Quarantined callbacks are unregistered shortly after by a daemon thread, and can be registered again,
+     * they are not reported again while waiting to be unregistered.
+     *
+     * @param event the event
+     * @param eventCallback callback that was slow
+     * @param nanos time spent in the callback, in nanoseconds
+     * @param strikes number of consecutive sampled calls of the callback over the budget
+     * @return if the callback should be quarantined
+     * @since 1.4.0
+     */
+    protected boolean onSlowListener(@NotNull Event event,@NotNull EventCallback eventCallback, long nanos, int strikes) {
+        boolean quarantine = SlowListenerEventDispatcher.QUARANTINE_STRIKES != 0 &&
+                strikes >= SlowListenerEventDispatcher.QUARANTINE_STRIKES;
+        Object holder = eventCallback.getHolder();
+        LOGGER.warning("Slow listener " + (holder == null ? "<static>" : holder.getClass().getName()) +
+                " (priority " + eventCallback.priority + ") took " + (nanos / 1000L) + "us for " +
+                event.getClass().getName() + (quarantine ? ", quarantining it" : ""));
+        return quarantine;
+    }
+
     /**
      * Callback called when unsafe APIs are called, can be used to limit the usage of the {@link Unsafe} API
      *
@@ -320,7 +625,7 @@ public abstract class FoxEvents {
     protected void onUnsafeAccess(String method) throws SecurityException {}
 
     @SuppressWarnings("unchecked")
-    private static <T extends Throwable> void sneakyThrow(Throwable throwable) throws T {
+    static <T extends Throwable> void sneakyThrow(Throwable throwable) throws T {
         throw (T) throwable;
     }
 
@@ -335,13 +640,159 @@ public abstract class FoxEvents {
         return Integer.compare(o2.priority, o1.priority);
     }
 
+    /**
+     * Used to turn event handlers into {@link java.lang.invoke.LambdaMetafactory} generated
+     * invokers in {@link #getEventCallbacks(Object, BooleanSupplier, boolean, MethodHandles.Lookup)},
+     * giving dispatch a monomorphic interface call instead of a {@link MethodHandle} invocation.
+     * <p>
+     * Require a lookup with private access, the {@link MethodHandle} path is used otherwise,
+     * registration methods not taking a lookup use {@link MethodHandles#publicLookup()}, so enabling
+     * this only affect handlers registered with
+     * {@link #registerEventsHandle(Object, BooleanSupplier, MethodHandles.Lookup)} with the caller lookup.
+     * Default to the {@code foxevents.lambda-callbacks} system property.
+     *
+     * @return if lambda backed event callbacks should be used when possible
+     * @since 1.4.0
+     */
+    protected boolean isUsingLambdaCallbacks() {
+        return lambdaCallbacks;
+    }
+
+    /**
+     * Used to select how an event holder dispatch events to its callbacks, called each time
+     * the holder callbacks are baked.
+     * <p>
+     * Changes are applied on the next bake, call {@link #invalidateBakedCallbacks()} to force them.
+     * <p>
+     * Default to {@link DispatchStrategy#PARALLEL} for {@link Event.ParallelEvent} events.
+     *
+     * @param eventHolder the event holder being baked
+     * @return the dispatch strategy to use for the event holder
+     * @since 1.4.0
+     */
+    public @NotNull DispatchStrategy getDispatchStrategy(@NotNull EventHolder<?> eventHolder) {
+        return eventHolder.isParallel() ? DispatchStrategy.PARALLEL : DispatchStrategy.DEFAULT;
+    }
+
+    /**
+     * Used to select if an event holder should record {@link DispatchMetrics}, called each time
+     * the holder callbacks are baked, holders recording metrics use a dedicated dispatcher,
+     * ignoring {@link #getDispatchStrategy(EventHolder)}, so other holders have no overhead.
+     * <p>
+     * Default to the {@code foxevents.metrics} system property.
+     * Changes are applied on the next bake, call {@link #invalidateBakedCallbacks()} to force them.
+     *
+     * @param eventHolder the event holder being baked
+     * @return if metrics should be recorded for the event holder
+     * @see EventHolder#getMetrics()
+     * @see EventCallback#getMetrics()
+     * @since 1.4.0
+     */
+    public boolean isMetricsEnabled(@NotNull EventHolder<?> eventHolder) {
+        return DispatchMetrics.ENABLED;
+    }
+
+    /**
+     * Used to select the latency budget of event callbacks of an event holder, called each time
+     * the holder callbacks are baked, a sample of dispatches are timed, and callbacks over budget
+     * are reported to {@link #onSlowListener(Event, EventCallback, long, int)}.
+     * <p>
+     * Default to the {@code foxevents.slow-listener-budget} system property, in microseconds,
+     * one in {@code foxevents.slow-listener-sampling} dispatches is timed, {@code 16} by default.
+     * Holders recording {@link DispatchMetrics} or traced by Java Flight Recorder already time
+     * every callback, so every callback call is checked against the budget instead.
+     * Changes are applied on the next bake, call {@link #invalidateBakedCallbacks()} to force them.
+     *
+     * @param eventHolder the event holder being baked
+     * @return the latency budget in nanoseconds, or {@code 0} to disable slow listeners detection
+     * @since 1.4.0
+     */
+    public long getSlowListenerBudget(@NotNull EventHolder<?> eventHolder) {
+        return SlowListenerEventDispatcher.BUDGET_NANOS;
+    }
+
+    /**
+     * Install an event interceptor, interceptors are woven on the next bake, in installation order,
+     * the first installed interceptor being the outermost.
+     *
+     * @param eventInterceptor the event interceptor to install
+     * @since 1.4.0
+     */
+    public final void addEventInterceptor(@NotNull EventInterceptor eventInterceptor) {
+        Objects.requireNonNull(eventInterceptor, "eventInterceptor == null");
+        this.ensureInstanceAccess();
+        this.eventInterceptors.add(eventInterceptor);
+        EventHolder.invalidateAllBakedCallbacks();
+    }
+
+    /**
+     * Uninstall an event interceptor, it is removed from dispatch on the next bake.
+     *
+     * @param eventInterceptor the event interceptor to uninstall
+     * @return if the event interceptor was installed
+     * @since 1.4.0
+     */
+    public final boolean removeEventInterceptor(@NotNull EventInterceptor eventInterceptor) {
+        this.ensureInstanceAccess();
+        if (this.eventInterceptors.remove(eventInterceptor)) {
+            EventHolder.invalidateAllBakedCallbacks();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Used to select the event interceptors woven into an event holder, called each time
+     * the holder callbacks are baked.
+     * <p>
+     * Default to the interceptors installed with {@link #addEventInterceptor(EventInterceptor)}.
+     * Changes are applied on the next bake, call {@link #invalidateBakedCallbacks()} to force them.
+     *
+     * @param eventHolder the event holder being baked
+     * @return the event interceptors, the first one being the outermost
+     * @since 1.4.0
+     */
+    public @NotNull List<EventInterceptor> getEventInterceptors(@NotNull EventHolder<?> eventHolder) {
+        return Collections.unmodifiableList(this.eventInterceptors);
+    }
+
+    /**
+     * Used to select the executor used by {@link EventHolder#callEventAsync(Event)}.
+     * <p>
+     * Default to virtual threads on Java 21+, and to a cached daemon thread pool on older versions.
+     *
+     * @param eventHolder the event holder dispatching the event
+     * @return the executor to run the event pipeline on
+     * @since 1.4.0
+     */
+    public @NotNull Executor getAsyncExecutor(@NotNull EventHolder<?> eventHolder) {
+        return AsyncExecutors.DEFAULT_EXECUTOR;
+    }
+
+    /**
+     * Used to get the executor of {@link EventHandler#async()} handlers, called each time
+     * the event holder callbacks are baked.
+     * <p>
+     * Default to the same executor as {@link #getAsyncExecutor(EventHolder)} for every key.
+     *
+     * @param executor the executor key, as defined by {@link EventHandler#executor()}
+     * @return the executor to call async handlers on
+     * @since 1.4.0
+     */
+    public @NotNull Executor getHandlerExecutor(@NotNull String executor) {
+        return AsyncExecutors.DEFAULT_EXECUTOR;
+    }
+
     /**
      * Can be implemented by subclass loader of the classloader that implemented FoxEvent to avoid memory leaks.
      * <p>
      * The class loader that defined FoxEvent doesn't need to implement this class itself.
      *
      * @since 1.0.0
+     * @deprecated event holders are freed with their event class since 1.4.0,
+     * the backing map is still filled for compatibility.
      */
+    @Deprecated
     public interface FoxEventsClassLoader {
         /**
          * Used to store the backing IdentityHashMap in a sub-classloader
@@ -401,6 +852,8 @@ public abstract class FoxEvents {
 
         /**
          * Get the backing event holder hash map of a class loader.
+         * <p>
+         * Since 1.4.0, this return a snapshot, unless the class loader implement {@link FoxEventsClassLoader}.
          *
          * @param classLoader to get identity hash map of
          * @return the backing identity hash map
@@ -410,10 +863,11 @@ public abstract class FoxEvents {
         public static @Nullable IdentityHashMap<@NotNull Class<? extends Event>,@NotNull EventHolder<?>>
         /*    */ getEventHolderMapUnsafe(@Nullable ClassLoader classLoader) {
             getFoxEvents().onUnsafeAccess("getEventHolderMapUnsafe");
+            if (classLoader == null) return null;
             if (classLoader instanceof FoxEventsClassLoader) {
                 return ((FoxEventsClassLoader) classLoader).getFoxEventHolderReferences();
             }
-            return EventHolder.eventHoldersCache.get(classLoader);
+            return EventHolder.getEventHolderMap(classLoader);
         }
 
         /**
@@ -430,6 +884,8 @@ public abstract class FoxEvents {
             final boolean[] ret = new boolean[]{false};
             EventHolder.forEachEventHolder(classLoader,
                     holder -> ret[0] |= holder.unregisterEventCallbackFromInstance(instance));
+            ret[0] |= EventRegistry.INSTANCE.dropDisabledListeners(
+                    eventCallback -> eventCallback.getHolder() == instance);
             return ret[0];
         }
     }
@@ -31,10 +31,6 @@ public class FoxEventsImpl extends FoxEvents {
 
     @Override
     public void unregisterEvents(@NotNull Object handler) {
-        if (handler.getClass().getClassLoader() != FoxEvents.class.getClassLoader()) {
-            // Cross class loader unregister is a bit iffy, but implementation can always be overridden.
-            throw new IllegalArgumentException("Handler doesn't use same class loader as FoxEvents");
-        }
-        this.unregisterEventsForClassLoader(FoxEvents.class.getClassLoader(), handler);
+        this.unregisterEventsFromOwner(handler);
     }
 }
@@ -0,0 +1,64 @@
+package com.fox2code.foxevents;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Allow to expose the event registry as a platform MBean, see {@link EventRegistryMXBean}.
+ * <p>
+ * The MBean is registered when FoxEvents is initialized if the {@code foxevents.jmx}
+ * system property is set, or when {@link #register()} is called.
+ * <p>
+ * The registry can disable listeners and invalidate validators, so it is only reachable
+ * through the platform MBean server, or by the FoxEvents instance.
+ *
+ * @since 1.4.0
+ */
+public final class FoxEventsManagement {
+    /**
+     * Object name of the {@link EventRegistryMXBean}
+     *
+     * @since 1.4.0
+     */
+    public static final ObjectName EVENT_REGISTRY_NAME;
+
+    static {
+        try {
+            EVENT_REGISTRY_NAME = new ObjectName("com.fox2code.foxevents:type=EventRegistry");
+        } catch (MalformedObjectNameException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private FoxEventsManagement() {}
+
+    /**
+     * Register the {@link EventRegistryMXBean} in the platform MBean server, does nothing if already registered.
+     *
+     * @throws JMException if the MBean couldn't be registered
+     * @since 1.4.0
+     */
+    public static void register() throws JMException {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            mBeanServer.registerMBean(EventRegistry.INSTANCE, EVENT_REGISTRY_NAME);
+        } catch (InstanceAlreadyExistsException ignored) {}
+    }
+
+    /**
+     * Unregister the {@link EventRegistryMXBean} from the platform MBean server, if registered.
+     *
+     * @throws JMException if the MBean couldn't be unregistered
+     * @since 1.4.0
+     */
+    public static void unregister() throws JMException {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(EVENT_REGISTRY_NAME);
+        } catch (InstanceNotFoundException ignored) {}
+    }
+}
@@ -0,0 +1,246 @@
+package com.fox2code.foxevents;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Cached {@link EventHandler} metadata of a handler class, so registering
+ * another instance of the same class skips reflection and annotation parsing.
+ * <p>
+ * This class is only public so the unsafe module can share it.
+ *
+ * @since 1.4.0
+ */
+@ApiStatus.Internal
+public final class HandlerMetadata {
+    private static final ClassValue<HandlerMetadata> handlersMetadata = new ClassValue<HandlerMetadata>() {
+        @Override
+        protected HandlerMetadata computeValue(Class<?> type) {
+            return new HandlerMetadata(type);
+        }
+    };
+    private static final Entry[] EMPTY_ENTRIES = new Entry[0];
+    private static final ResolvedHandle[] EMPTY_RESOLVED_HANDLES = new ResolvedHandle[0];
+    // Handlers are usually registered with one or two lookups, keep a few to not thrash
+    private static final int MAX_RESOLVED_HANDLES = 4;
+    final Entry[] instanceEntries;
+    final Entry[] staticEntries;
+    private final List<Entry> instanceEntriesList;
+    private final List<Entry> staticEntriesList;
+
+    private HandlerMetadata(Class<?> handlerClass) {
+        ArrayList<Entry> instanceEntries = new ArrayList<>();
+        ArrayList<Entry> staticEntries = new ArrayList<>();
+        for (Method method : handlerClass.getMethods()) {
+            if (method.isBridge() || method.isSynthetic()) continue;
+            EventHandler eventHandler = method.getAnnotation(EventHandler.class);
+            if (eventHandler == null) continue;
+            Class<?>[] args = method.getParameterTypes();
+            if (args.length != 1) continue;
+            (Modifier.isStatic(method.getModifiers()) ? staticEntries : instanceEntries)
+                    .add(new Entry(method, args[0], eventHandler));
+        }
+        this.instanceEntries = instanceEntries.toArray(EMPTY_ENTRIES);
+        this.staticEntries = staticEntries.toArray(EMPTY_ENTRIES);
+        this.instanceEntriesList = Collections.unmodifiableList(Arrays.asList(this.instanceEntries));
+        this.staticEntriesList = Collections.unmodifiableList(Arrays.asList(this.staticEntries));
+    }
+
+    /**
+     * @param handlerClass the handler class
+     * @return the cached metadata of the handler class
+     * @since 1.4.0
+     */
+    public static @NotNull HandlerMetadata getHandlerMetadata(@NotNull Class<?> handlerClass) {
+        return handlersMetadata.get(handlerClass);
+    }
+
+    /**
+     * @param isStatic if the static handlers should be returned instead of the instance ones
+     * @return the handler entries
+     * @since 1.4.0
+     */
+    public @NotNull List<Entry> getEntries(boolean isStatic) {
+        return isStatic ? this.staticEntriesList : this.instanceEntriesList;
+    }
+
+    /**
+     * Used to un-reflect handler methods without a lookup.
+     *
+     * @since 1.4.0
+     */
+    @ApiStatus.Internal
+    public interface Unreflector {
+        /**
+         * @param method the handler method
+         * @return the unbound method handle
+         * @throws IllegalAccessException if the method can't be accessed
+         */
+        @NotNull MethodHandle unreflect(@NotNull Method method) throws IllegalAccessException;
+    }
+
+    /**
+     * Cached metadata of a single {@link EventHandler} method.
+     *
+     * @since 1.4.0
+     */
+    @ApiStatus.Internal
+    public static final class Entry {
+        final Method method;
+        final Class<?> eventClass;
+        final boolean ignoreCancelled;
+        final int priority;
+        final String asyncExecutor;
+        private volatile ResolvedHandle[] resolvedHandles = EMPTY_RESOLVED_HANDLES;
+
+        Entry(Method method, Class<?> eventClass, EventHandler eventHandler) {
+            this.method = method;
+            this.eventClass = eventClass;
+            this.ignoreCancelled = eventHandler.ignoreCancelled();
+            this.priority = eventHandler.priority();
+            this.asyncExecutor = eventHandler.async() ? eventHandler.executor() : null;
+        }
+
+        /**
+         * @return the handler method
+         * @since 1.4.0
+         */
+        @Contract(pure = true)
+        public @NotNull Method getMethod() {
+            return this.method;
+        }
+
+        /**
+         * @return the event class the handler listen to
+         * @since 1.4.0
+         */
+        @Contract(pure = true)
+        public @NotNull Class<?> getEventClass() {
+            return this.eventClass;
+        }
+
+        /**
+         * @return if the handler should be called even if the event is cancelled
+         * @since 1.4.0
+         */
+        @Contract(pure = true)
+        public boolean isIgnoreCancelled() {
+            return this.ignoreCancelled;
+        }
+
+        /**
+         * @return the priority of the handler
+         * @since 1.4.0
+         */
+        @Contract(pure = true)
+        public int getPriority() {
+            return this.priority;
+        }
+
+        /**
+         * @return the executor key if the handler is async, or {@code null}
+         * @since 1.4.0
+         */
+        @Contract(pure = true)
+        public @Nullable String getAsyncExecutor() {
+            return this.asyncExecutor;
+        }
+
+        /**
+         * Get the unbound method handle, cached per lookup class and modes.
+         * @param lookup the lookup used to resolve the method
+         * @return the unbound method handle
+         * @throws IllegalAccessException if the lookup can't access the method
+         */
+        public @NotNull MethodHandle unreflect(@NotNull MethodHandles.Lookup lookup) throws IllegalAccessException {
+            return this.resolve(lookup).methodHandle;
+        }
+
+        /**
+         * Get the unbound method handle, cached per unreflector.
+         * @param unreflector the unreflector used to resolve the method
+         * @return the unbound method handle
+         * @throws IllegalAccessException if the unreflector can't access the method
+         */
+        public @NotNull MethodHandle unreflect(@NotNull Unreflector unreflector) throws IllegalAccessException {
+            ResolvedHandle resolvedHandle = this.findResolvedHandle(unreflector, 0);
+            if (resolvedHandle == null) {
+                resolvedHandle = this.addResolvedHandle(new ResolvedHandle(
+                        unreflector, 0, unreflector.unreflect(this.method)));
+            }
+            return resolvedHandle.methodHandle;
+        }
+
+        /**
+         * @return the lambda factory, made on first use, or {@code null} if it can't be made
+         */
+        @Nullable MethodHandle getLambdaFactory(@NotNull MethodHandles.Lookup lookup) throws IllegalAccessException {
+            ResolvedHandle resolvedHandle = this.resolve(lookup);
+            if (!resolvedHandle.lambdaFactoryResolved) {
+                // Races are harmless, both factories are equivalent
+                MethodHandle lambdaFactory = EventCallback.makeLambdaFactory(
+                        lookup, this.method, resolvedHandle.methodHandle);
+                resolvedHandle.lambdaFactory = lambdaFactory;
+                // Written last, so readers seeing the flag also see the factory
+                resolvedHandle.lambdaFactoryResolved = true;
+                return lambdaFactory;
+            }
+            return resolvedHandle.lambdaFactory;
+        }
+
+        private ResolvedHandle resolve(MethodHandles.Lookup lookup) throws IllegalAccessException {
+            ResolvedHandle resolvedHandle = this.findResolvedHandle(lookup.lookupClass(), lookup.lookupModes());
+            if (resolvedHandle == null) {
+                resolvedHandle = this.addResolvedHandle(new ResolvedHandle(
+                        lookup.lookupClass(), lookup.lookupModes(), lookup.unreflect(this.method)));
+            }
+            return resolvedHandle;
+        }
+
+        private ResolvedHandle findResolvedHandle(Object key, int lookupModes) {
+            for (ResolvedHandle resolvedHandle : this.resolvedHandles) {
+                if (resolvedHandle.key == key && resolvedHandle.lookupModes == lookupModes) {
+                    return resolvedHandle;
+                }
+            }
+            return null;
+        }
+
+        private ResolvedHandle addResolvedHandle(ResolvedHandle resolvedHandle) {
+            // Races may drop an entry, it will just be resolved again
+            ResolvedHandle[] resolvedHandles = this.resolvedHandles;
+            ResolvedHandle[] newResolvedHandles = new ResolvedHandle[
+                    Math.min(resolvedHandles.length + 1, MAX_RESOLVED_HANDLES)];
+            newResolvedHandles[0] = resolvedHandle;
+            System.arraycopy(resolvedHandles, 0, newResolvedHandles, 1, newResolvedHandles.length - 1);
+            this.resolvedHandles = newResolvedHandles;
+            return resolvedHandle;
+        }
+    }
+
+    private static final class ResolvedHandle {
+        // Either the lookup class or the unreflector
+        final Object key;
+        final int lookupModes;
+        final MethodHandle methodHandle;
+        MethodHandle lambdaFactory;
+        volatile boolean lambdaFactoryResolved;
+
+        ResolvedHandle(Object key, int lookupModes, MethodHandle methodHandle) {
+            this.key = key;
+            this.lookupModes = lookupModes;
+            this.methodHandle = methodHandle;
+        }
+    }
+}
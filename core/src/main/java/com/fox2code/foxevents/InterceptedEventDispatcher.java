@@ -0,0 +1,117 @@
+package com.fox2code.foxevents;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Dispatcher weaving {@link EventInterceptor} around the baked dispatch, chains are
+ * built when baking, so intercepted dispatches don't allocate.
+ */
+final class InterceptedEventDispatcher extends EventDispatcher {
+    private final boolean skipOnCancelled;
+    private final EventInterceptor.Proceed[] callbackChains;
+    private final EventInterceptor.Proceed dispatchChain;
+
+    private InterceptedEventDispatcher(EventHolder<?> eventHolder, EventCallback[] eventCallbacks,
+                                       boolean skipOnCancelled, EventInterceptor[] interceptors,
+                                       EventInterceptor.Proceed[] callbackChains, EventDispatcher dispatcher) {
+        super(eventCallbacks);
+        this.skipOnCancelled = skipOnCancelled;
+        this.callbackChains = callbackChains;
+        EventInterceptor.Proceed dispatchChain;
+        if (callbackChains != null) {
+            dispatchChain = this::dispatchCallbacks;
+        } else if (dispatcher != null) {
+            dispatchChain = dispatcher::dispatch;
+        } else {
+            dispatchChain = this::dispatchCallbacksUnintercepted;
+        }
+        for (int i = interceptors.length - 1; i >= 0; i--) {
+            EventInterceptor interceptor = interceptors[i];
+            if (interceptor.interceptsDispatch(eventHolder)) {
+                final EventInterceptor.Proceed next = dispatchChain;
+                dispatchChain = event -> interceptor.aroundDispatch(eventHolder, event, next);
+            }
+        }
+        this.dispatchChain = dispatchChain;
+    }
+
+    /**
+     * @return the dispatcher to bake, {@code dispatcher} itself if no interceptor applies
+     */
+    static @Nullable EventDispatcher make(
+            EventHolder<?> eventHolder, EventCallback[] eventCallbacks, boolean skipOnCancelled,
+            EventInterceptor[] interceptors, @Nullable EventDispatcher dispatcher) {
+        boolean interceptsDispatch = false;
+        for (EventInterceptor interceptor : interceptors) {
+            if (interceptor.interceptsDispatch(eventHolder)) {
+                interceptsDispatch = true;
+                break;
+            }
+        }
+        EventInterceptor.Proceed[] callbackChains = null;
+        for (int i = 0; i < eventCallbacks.length; i++) {
+            final EventCallback eventCallback = eventCallbacks[i];
+            EventInterceptor.Proceed callbackChain = null;
+            for (int j = interceptors.length - 1; j >= 0; j--) {
+                EventInterceptor interceptor = interceptors[j];
+                if (interceptor.interceptsCallback(eventCallback)) {
+                    final EventInterceptor.Proceed next = callbackChain != null ?
+                            callbackChain : eventCallback::invokeRaw;
+                    callbackChain = event -> interceptor.aroundCallback(eventCallback, event, next);
+                }
+            }
+            if (callbackChain != null) {
+                if (callbackChains == null) {
+                    callbackChains = new EventInterceptor.Proceed[eventCallbacks.length];
+                    for (int j = 0; j < i; j++) {
+                        callbackChains[j] = eventCallbacks[j]::invokeRaw;
+                    }
+                }
+                callbackChains[i] = callbackChain;
+            } else if (callbackChains != null) {
+                callbackChains[i] = eventCallback::invokeRaw;
+            }
+        }
+        if (!interceptsDispatch && callbackChains == null) {
+            return dispatcher;
+        }
+        return new InterceptedEventDispatcher(eventHolder, eventCallbacks,
+                skipOnCancelled, interceptors, callbackChains, dispatcher);
+    }
+
+    @Override
+    public void dispatch(@NotNull Event event) {
+        try {
+            this.dispatchChain.proceed(event);
+        } catch (Throwable t) {
+            FoxEvents.sneakyThrow(t);
+        }
+    }
+
+    private void dispatchCallbacks(Event event) {
+        final EventInterceptor.Proceed[] callbackChains = this.callbackChains;
+        final EventCallback[] eventCallbacks = this.eventCallbacks;
+        for (int i = 0; i < eventCallbacks.length; i++) {
+            if (event.cancelled && (this.skipOnCancelled || !eventCallbacks[i].ignoreCancelled)) {
+                if (this.skipOnCancelled) return;
+                continue;
+            }
+            try {
+                callbackChains[i].proceed(event);
+            } catch (Throwable t) {
+                this.onCallbackError(t, event, i);
+            }
+        }
+    }
+
+    private void dispatchCallbacksUnintercepted(Event event) {
+        for (EventCallback eventCallback : this.eventCallbacks) {
+            if (event.cancelled && (this.skipOnCancelled || !eventCallback.ignoreCancelled)) {
+                if (this.skipOnCancelled) return;
+                continue;
+            }
+            eventCallback.callForEventRaw(event);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.fox2code.foxevents;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Consumer;
+
+/**
+ * Dispatcher composing all baked callbacks into a single {@link MethodHandle} tree.
+ * <p>
+ * Callbacks are sequenced as a balanced tree of {@link MethodHandles#foldArguments(MethodHandle, MethodHandle)}
+ * to keep the tree depth low, and guarded by {@link Event#isCancelled()} when they skip cancelled events.
+ * <p>
+ * {@link #dispatch(Event)} read the tree from a field, so it is only inlined when installed
+ * in the holder dispatch call site, see {@link EventHolder#getDispatchHandle()}.
+ */
+final class MethodHandleEventDispatcher extends EventDispatcher {
+    private static final MethodType DISPATCH_TYPE = MethodType.methodType(void.class, Event.class);
+    private static final MethodHandle NOOP, IS_CANCELLED, ACCEPT, ON_ERROR;
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            NOOP = lookup.findStatic(MethodHandleEventDispatcher.class, "noop", DISPATCH_TYPE);
+            IS_CANCELLED = lookup.findVirtual(Event.class, "isCancelled",
+                    MethodType.methodType(boolean.class));
+            ACCEPT = lookup.findVirtual(Consumer.class, "accept",
+                    MethodType.methodType(void.class, Object.class));
+            ON_ERROR = lookup.findStatic(MethodHandleEventDispatcher.class, "onError",
+                    MethodType.methodType(void.class, EventCallback.class, Throwable.class, Event.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final MethodHandle dispatchHandle;
+
+    private MethodHandleEventDispatcher(EventCallback[] eventCallbacks, MethodHandle dispatchHandle) {
+        super(eventCallbacks);
+        this.dispatchHandle = dispatchHandle;
+    }
+
+    static EventDispatcher make(EventCallback[] eventCallbacks, boolean skipOnCancelled) {
+        if (eventCallbacks.length == 0) {
+            return null;
+        }
+        MethodHandle[] steps = new MethodHandle[eventCallbacks.length];
+        for (int i = 0; i < eventCallbacks.length; i++) {
+            EventCallback eventCallback = eventCallbacks[i];
+            MethodHandle step = eventCallback.eventInvoker != null ?
+                    ACCEPT.bindTo(eventCallback.eventInvoker).asType(DISPATCH_TYPE) :
+                    eventCallback.eventCallback.asType(DISPATCH_TYPE);
+            step = MethodHandles.catchException(step, Throwable.class,
+                    MethodHandles.insertArguments(ON_ERROR, 0, eventCallback));
+            if (skipOnCancelled || !eventCallback.ignoreCancelled) {
+                step = MethodHandles.guardWithTest(IS_CANCELLED, NOOP, step);
+            }
+            steps[i] = step;
+        }
+        return new MethodHandleEventDispatcher(eventCallbacks, sequence(steps, 0, steps.length));
+    }
+
+    private static MethodHandle sequence(MethodHandle[] steps, int from, int to) {
+        if (to - from == 1) {
+            return steps[from];
+        }
+        int middle = (from + to) >>> 1;
+        return MethodHandles.foldArguments(sequence(steps, middle, to), sequence(steps, from, middle));
+    }
+
+    @Override
+    MethodHandle asMethodHandle() {
+        return this.dispatchHandle;
+    }
+
+    @Override
+    public void dispatch(@NotNull Event event) {
+        try {
+            this.dispatchHandle.invokeExact(event);
+        } catch (Throwable t) {
+            // Errors are already reported to onEventError, only rethrow
+            FoxEvents.sneakyThrow(t);
+        }
+    }
+
+    private static void noop(Event event) {}
+
+    private static void onError(EventCallback eventCallback, Throwable throwable, Event event) {
+        FoxEvents.getFoxEventsSoft().onEventError(event, eventCallback, throwable);
+    }
+}
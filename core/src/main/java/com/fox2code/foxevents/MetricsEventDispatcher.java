@@ -0,0 +1,71 @@
+package com.fox2code.foxevents;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Dispatcher recording {@link DispatchMetrics}, only baked for holders with metrics enabled,
+ * so holders without metrics keep their usual dispatch.
+ * <p>
+ * As every callback is timed, callbacks over the slow listener budget are also reported here.
+ */
+final class MetricsEventDispatcher extends EventDispatcher {
+    private final DispatchMetrics metrics;
+    private final DispatchMetrics[] callbackMetrics;
+    private final boolean skipOnCancelled;
+    private final long slowListenerBudget;
+
+    MetricsEventDispatcher(EventCallback[] eventCallbacks, boolean skipOnCancelled,
+                           DispatchMetrics metrics, long slowListenerBudget) {
+        super(eventCallbacks);
+        this.metrics = metrics;
+        this.callbackMetrics = new DispatchMetrics[eventCallbacks.length];
+        for (int i = 0; i < eventCallbacks.length; i++) {
+            this.callbackMetrics[i] = eventCallbacks[i].getOrCreateMetrics();
+        }
+        this.skipOnCancelled = skipOnCancelled;
+        this.slowListenerBudget = slowListenerBudget;
+    }
+
+    @Override
+    public void dispatch(@NotNull Event event) {
+        final EventCallback[] eventCallbacks = this.eventCallbacks;
+        final long start = System.nanoTime();
+        long last = start;
+        try {
+            for (int i = 0; i < eventCallbacks.length; i++) {
+                boolean cancelled = event.cancelled;
+                EventCallback eventCallback = eventCallbacks[i];
+                if (cancelled && (this.skipOnCancelled || !eventCallback.ignoreCancelled)) {
+                    if (this.skipOnCancelled) return;
+                    continue;
+                }
+                DispatchMetrics callbackMetrics = this.callbackMetrics[i];
+                try {
+                    Consumer<Event> eventInvoker = eventCallback.eventInvoker;
+                    if (eventInvoker != null) {
+                        eventInvoker.accept(event);
+                    } else {
+                        eventCallback.eventCallback.invoke(event);
+                    }
+                } catch (Throwable t) {
+                    callbackMetrics.recordException();
+                    this.metrics.recordException();
+                    this.onCallbackError(t, event, i);
+                } finally {
+                    long now = System.nanoTime();
+                    callbackMetrics.record(now - last, !cancelled && event.cancelled);
+                    if (this.slowListenerBudget != 0 && SlowListenerEventDispatcher.onCallbackTimed(
+                            event, eventCallback, now - last, this.slowListenerBudget)) {
+                        // Don't account reporting time to the next callback
+                        now = System.nanoTime();
+                    }
+                    last = now;
+                }
+            }
+        } finally {
+            this.metrics.record(System.nanoTime() - start, event.cancelled);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.fox2code.foxevents;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Dispatcher splitting the baked callbacks across the {@link ForkJoinPool#commonPool()},
+ * only used for events that are not cancellable, so no cancellation checks are needed.
+ */
+final class ParallelEventDispatcher extends EventDispatcher {
+    static final int THRESHOLD = Math.max(2, Integer.getInteger("foxevents.parallel-threshold", 64));
+
+    private final boolean skipOnCancelled;
+    private final int leafSize;
+
+    ParallelEventDispatcher(EventCallback[] eventCallbacks, boolean skipOnCancelled) {
+        super(eventCallbacks);
+        this.skipOnCancelled = skipOnCancelled;
+        // Enough leaves to balance the work, without splitting below a few callbacks per task
+        this.leafSize = Math.max(4, eventCallbacks.length /
+                (ForkJoinPool.getCommonPoolParallelism() * 4));
+    }
+
+    @Override
+    public void dispatch(@NotNull Event event) {
+        if (event.cancelled) {
+            // Only possible through unsafe APIs, and can't change while dispatching
+            if (this.skipOnCancelled) return;
+            for (EventCallback eventCallback : this.eventCallbacks) {
+                if (eventCallback.ignoreCancelled) {
+                    eventCallback.callForEventRaw(event);
+                }
+            }
+            return;
+        }
+        ParallelDispatch parallelDispatch = new ParallelDispatch(
+                this.eventCallbacks, this.leafSize, event, 0, this.eventCallbacks.length);
+        if (ForkJoinPool.getCommonPoolParallelism() <= 1) {
+            parallelDispatch.dispatchSequential();
+        } else {
+            ForkJoinPool.commonPool().invoke(parallelDispatch);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class ParallelDispatch extends RecursiveAction {
+        private final EventCallback[] eventCallbacks;
+        private final int leafSize;
+        private final Event event;
+        private final int from, to;
+
+        ParallelDispatch(EventCallback[] eventCallbacks, int leafSize, Event event, int from, int to) {
+            this.eventCallbacks = eventCallbacks;
+            this.leafSize = leafSize;
+            this.event = event;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.leafSize) {
+                this.dispatchSequential();
+                return;
+            }
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new ParallelDispatch(this.eventCallbacks, this.leafSize, this.event, this.from, middle),
+                    new ParallelDispatch(this.eventCallbacks, this.leafSize, this.event, middle, this.to));
+        }
+
+        void dispatchSequential() {
+            for (int i = this.from; i < this.to; i++) {
+                this.eventCallbacks[i].callForEventRaw(this.event);
+            }
+        }
+    }
+}
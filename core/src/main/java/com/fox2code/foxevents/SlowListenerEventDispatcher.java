@@ -0,0 +1,181 @@
+package com.fox2code.foxevents;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.logging.Level;
+
+/**
+ * Dispatcher timing a sample of dispatches, reporting callbacks over the latency budget
+ * to {@link FoxEvents#onSlowListener(Event, EventCallback, long, int)}, only baked for holders
+ * with a slow listener budget, so other holders keep their usual dispatch.
+ * <p>
+ * Sampled dispatches are timed around the dispatcher that would have been baked, when they exceed
+ * the budget, the next sampled dispatch time each callback to find the slow ones.
+ * Dispatchers already timing each callback report slow callbacks themselves instead.
+ * <p>
+ * Quarantined callbacks are unregistered in batch by a daemon thread,
+ * so dispatching threads never have to rebake.
+ */
+final class SlowListenerEventDispatcher extends EventDispatcher {
+    static final long BUDGET_NANOS = TimeUnit.MICROSECONDS.toNanos(
+            Math.max(0L, Long.getLong("foxevents.slow-listener-budget", 0L)));
+    static final int SAMPLING_MASK = samplingMask(Integer.getInteger("foxevents.slow-listener-sampling", 16));
+    static final int QUARANTINE_STRIKES = Math.max(0, Integer.getInteger("foxevents.slow-listener-quarantine", 0));
+    private static final AtomicIntegerFieldUpdater<SlowListenerEventDispatcher> PROBE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(SlowListenerEventDispatcher.class, "probe");
+    static final AtomicIntegerFieldUpdater<EventCallback> SLOW_STRIKES_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(EventCallback.class, "slowStrikes");
+    // Strikes of quarantined callbacks, so in-flight dispatches don't report them again, reset on registration
+    private static final int QUARANTINED = -1;
+    private static final LinkedBlockingQueue<EventCallback> quarantineQueue = new LinkedBlockingQueue<>();
+    private static Thread quarantineThread;
+
+    private final boolean skipOnCancelled;
+    private final long budgetNanos;
+    private final EventDispatcher delegate;
+    // Set when a sampled dispatch is over budget, the next sampled dispatch clear it and time each callback
+    private volatile int probe;
+
+    SlowListenerEventDispatcher(EventCallback[] eventCallbacks, boolean skipOnCancelled,
+                                long budgetNanos, @Nullable EventDispatcher delegate) {
+        super(eventCallbacks);
+        this.skipOnCancelled = skipOnCancelled;
+        this.budgetNanos = budgetNanos;
+        this.delegate = delegate;
+    }
+
+    private static int samplingMask(int sampling) {
+        // Round up to a power of two, so sampling is a mask check
+        return sampling <= 1 ? 0 : (Integer.highestOneBit(sampling - 1) << 1) - 1;
+    }
+
+    @Override
+    public void dispatch(@NotNull Event event) {
+        // Sampled per thread, so dispatching threads don't share a counter
+        if ((ThreadLocalRandom.current().nextInt() & SAMPLING_MASK) != 0) {
+            this.dispatchUntimed(event);
+        } else if (this.delegate == null || (this.probe != 0 && PROBE_UPDATER.compareAndSet(this, 1, 0))) {
+            this.dispatchTimed(event);
+        } else {
+            long start = System.nanoTime();
+            this.delegate.dispatch(event);
+            if (System.nanoTime() - start > this.budgetNanos) {
+                // Time each callback on the next sampled dispatch to find which ones are slow
+                this.probe = 1;
+            } else {
+                // No callback can be over budget if the whole dispatch is not
+                for (EventCallback eventCallback : this.eventCallbacks) {
+                    resetStrikes(eventCallback);
+                }
+            }
+        }
+    }
+
+    private void dispatchUntimed(Event event) {
+        if (this.delegate != null) {
+            this.delegate.dispatch(event);
+            return;
+        }
+        for (EventCallback eventCallback : this.eventCallbacks) {
+            if (event.cancelled && (this.skipOnCancelled || !eventCallback.ignoreCancelled)) {
+                if (this.skipOnCancelled) return;
+                continue;
+            }
+            eventCallback.callForEventRaw(event);
+        }
+    }
+
+    private void dispatchTimed(Event event) {
+        final EventCallback[] eventCallbacks = this.eventCallbacks;
+        for (EventCallback eventCallback : eventCallbacks) {
+            if (event.cancelled && (this.skipOnCancelled || !eventCallback.ignoreCancelled)) {
+                if (this.skipOnCancelled) return;
+                continue;
+            }
+            long start = System.nanoTime();
+            eventCallback.callForEventRaw(event);
+            onCallbackTimed(event, eventCallback, System.nanoTime() - start, this.budgetNanos);
+        }
+    }
+
+    /**
+     * Called by dispatchers timing callbacks, report the callback if it is over the budget
+     *
+     * @param event the event
+     * @param eventCallback the timed callback
+     * @param nanos time spent in the callback, in nanoseconds
+     * @param budgetNanos the latency budget, in nanoseconds
+     * @return if the callback was reported
+     */
+    static boolean onCallbackTimed(Event event, EventCallback eventCallback, long nanos, long budgetNanos) {
+        if (nanos > budgetNanos) {
+            int strikes;
+            do {
+                strikes = eventCallback.slowStrikes;
+                if (strikes == QUARANTINED) return true;
+            } while (!SLOW_STRIKES_UPDATER.compareAndSet(eventCallback, strikes, strikes + 1));
+            if (FoxEvents.getFoxEventsSoft().onSlowListener(event, eventCallback, nanos, strikes + 1) &&
+                    SLOW_STRIKES_UPDATER.getAndSet(eventCallback, QUARANTINED) != QUARANTINED) {
+                // Baked callbacks are a snapshot, so the current dispatch is not affected
+                quarantine(eventCallback);
+            }
+            return true;
+        }
+        resetStrikes(eventCallback);
+        return false;
+    }
+
+    private static void resetStrikes(EventCallback eventCallback) {
+        int strikes = eventCallback.slowStrikes;
+        if (strikes > 0) {
+            SLOW_STRIKES_UPDATER.compareAndSet(eventCallback, strikes, 0);
+        }
+    }
+
+    private static void quarantine(EventCallback eventCallback) {
+        ensureQuarantineStarted();
+        quarantineQueue.add(eventCallback);
+    }
+
+    private static synchronized void ensureQuarantineStarted() {
+        if (quarantineThread != null) return;
+        Thread thread = new Thread(SlowListenerEventDispatcher::quarantineSlowListeners,
+                "FoxEvents slow listener quarantine");
+        thread.setDaemon(true);
+        thread.setContextClassLoader(SlowListenerEventDispatcher.class.getClassLoader());
+        thread.start();
+        quarantineThread = thread;
+    }
+
+    private static void quarantineSlowListeners() {
+        ArrayList<EventCallback> quarantined = new ArrayList<>();
+        IdentityHashMap<EventHolder<?>, ArrayList<EventCallback>> slow = new IdentityHashMap<>();
+        while (true) {
+            try {
+                quarantined.add(quarantineQueue.take());
+                quarantineQueue.drainTo(quarantined);
+                for (EventCallback eventCallback : quarantined) {
+                    slow.computeIfAbsent(eventCallback.eventHolder,
+                            eventHolder -> new ArrayList<>()).add(eventCallback);
+                }
+                for (Map.Entry<EventHolder<?>, ArrayList<EventCallback>> entry : slow.entrySet()) {
+                    entry.getKey().unregisterEventCallbacks(entry.getValue().toArray(new EventCallback[0]));
+                }
+            } catch (InterruptedException ignored) {
+            } catch (Throwable throwable) {
+                FoxEvents.LOGGER.log(Level.WARNING, "Failed to quarantine slow listeners", throwable);
+            } finally {
+                quarantined.clear();
+                slow.clear();
+            }
+        }
+    }
+}
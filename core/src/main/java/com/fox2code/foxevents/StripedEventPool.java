@@ -0,0 +1,53 @@
+package com.fox2code.foxevents;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Pool shared by all threads, each thread probe a few slots starting
+ * from an offset derived from the thread identity.
+ */
+final class StripedEventPool<T extends Event> extends EventPool<T> {
+    private static final int PROBES = 8;
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+
+    StripedEventPool(EventHolder<T> eventHolder, Supplier<? extends T> eventFactory, int capacity) {
+        super(eventHolder, eventFactory);
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    private static int probe() {
+        int hash = System.identityHashCode(Thread.currentThread());
+        return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    T poll() {
+        AtomicReferenceArray<T> slots = this.slots;
+        int index = probe(), probes = Math.min(PROBES, this.mask + 1);
+        for (int i = 0; i < probes; i++, index++) {
+            int slot = index & this.mask;
+            T event = slots.get(slot);
+            if (event != null && slots.compareAndSet(slot, event, null)) {
+                return event;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    void offer(T event) {
+        AtomicReferenceArray<T> slots = this.slots;
+        int index = probe(), probes = Math.min(PROBES, this.mask + 1);
+        for (int i = 0; i < probes; i++, index++) {
+            int slot = index & this.mask;
+            if (slots.get(slot) == null && slots.compareAndSet(slot, null, event)) {
+                return;
+            }
+        }
+    }
+}
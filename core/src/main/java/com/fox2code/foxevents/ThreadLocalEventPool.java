@@ -0,0 +1,42 @@
+package com.fox2code.foxevents;
+
+import java.util.function.Supplier;
+
+/**
+ * Pool keeping a small stack of events per thread, no synchronization is needed.
+ */
+final class ThreadLocalEventPool<T extends Event> extends EventPool<T> {
+    private final ThreadLocal<Stack> stacks;
+
+    ThreadLocalEventPool(EventHolder<T> eventHolder, Supplier<? extends T> eventFactory, int maxPerThread) {
+        super(eventHolder, eventFactory);
+        this.stacks = ThreadLocal.withInitial(() -> new Stack(maxPerThread));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    T poll() {
+        Stack stack = this.stacks.get();
+        if (stack.size == 0) return null;
+        Object event = stack.events[--stack.size];
+        stack.events[stack.size] = null;
+        return (T) event;
+    }
+
+    @Override
+    void offer(T event) {
+        Stack stack = this.stacks.get();
+        if (stack.size < stack.events.length) {
+            stack.events[stack.size++] = event;
+        }
+    }
+
+    private static final class Stack {
+        final Object[] events;
+        int size;
+
+        Stack(int maxSize) {
+            this.events = new Object[maxSize];
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.fox2code.foxevents;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+
+/**
+ * Weak reference to the receiver of a weak event callback.
+ * <p>
+ * Callbacks of collected receivers are removed from their event holder
+ * in batch by a daemon thread, so dispatch never has to do it.
+ */
+final class WeakEventListener extends WeakReference<Object> {
+    private static final MethodType UNBOUND_TYPE = MethodType.methodType(void.class, Object.class, Event.class);
+    private static final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
+    private static final MethodHandle CALL;
+    private static Thread reclaimerThread;
+
+    static {
+        try {
+            CALL = MethodHandles.lookup().findVirtual(WeakEventListener.class, "call",
+                    MethodType.methodType(void.class, Event.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final MethodHandle unboundCallback;
+    EventCallback eventCallback;
+
+    /**
+     * @param receiver the event handler instance
+     * @param unboundCallback the method handle of the event handler, taking the receiver as first argument
+     */
+    WeakEventListener(Object receiver, MethodHandle unboundCallback) {
+        super(receiver, referenceQueue);
+        this.unboundCallback = unboundCallback.asType(UNBOUND_TYPE);
+        ensureReclaimerStarted();
+    }
+
+    private void call(Event event) throws Throwable {
+        Object receiver = this.get();
+        if (receiver != null) {
+            this.unboundCallback.invokeExact(receiver, event);
+        }
+    }
+
+    @NotNull MethodHandle asEventCallback() {
+        return CALL.bindTo(this);
+    }
+
+    /**
+     * @return a copy referencing the same receiver, the copy is already cleared if the receiver
+     * was collected, such copies are never enqueued, so registration refuse them
+     */
+    @NotNull WeakEventListener copy() {
+        return new WeakEventListener(this.get(), this.unboundCallback);
+    }
+
+    private static synchronized void ensureReclaimerStarted() {
+        if (reclaimerThread != null) return;
+        Thread thread = new Thread(WeakEventListener::reclaimCollectedListeners, "FoxEvents weak listener reclaimer");
+        thread.setDaemon(true);
+        thread.setContextClassLoader(WeakEventListener.class.getClassLoader());
+        thread.start();
+        reclaimerThread = thread;
+    }
+
+    private static void reclaimCollectedListeners() {
+        IdentityHashMap<EventHolder<?>, ArrayList<EventCallback>> collected = new IdentityHashMap<>();
+        while (true) {
+            try {
+                Reference<?> reference = referenceQueue.remove();
+                do {
+                    EventCallback eventCallback = ((WeakEventListener) reference).eventCallback;
+                    if (eventCallback != null) {
+                        collected.computeIfAbsent(eventCallback.eventHolder,
+                                eventHolder -> new ArrayList<>()).add(eventCallback);
+                    }
+                } while ((reference = referenceQueue.poll()) != null);
+                for (Map.Entry<EventHolder<?>, ArrayList<EventCallback>> entry : collected.entrySet()) {
+                    entry.getKey().unregisterEventCallbacks(entry.getValue().toArray(new EventCallback[0]));
+                }
+            } catch (InterruptedException ignored) {
+            } catch (Throwable throwable) {
+                FoxEvents.LOGGER.log(Level.WARNING, "Failed to reclaim weak listeners", throwable);
+            } finally {
+                collected.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.fox2code.foxevents;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * Dispatcher emitting {@link FlightRecorderEvents}, only baked while a recording enable them,
+ * so holders keep their usual dispatch otherwise.
+ * <p>
+ * Callbacks over the slow listener budget are reported here, so traced dispatches are never bypassed.
+ */
+final class FlightRecorderEventDispatcher extends EventDispatcher {
+    private final String eventName;
+    private final boolean skipOnCancelled;
+    private final boolean listenerTraced;
+    private final long slowListenerBudget;
+
+    FlightRecorderEventDispatcher(EventHolder<?> eventHolder, EventCallback[] eventCallbacks,
+                                  boolean skipOnCancelled, boolean listenerTraced, long slowListenerBudget) {
+        super(eventCallbacks);
+        this.eventName = eventHolder.getEventName();
+        this.skipOnCancelled = skipOnCancelled;
+        this.listenerTraced = listenerTraced;
+        this.slowListenerBudget = slowListenerBudget;
+    }
+
+    @Override
+    public void dispatch(@NotNull Event event) {
+        final EventCallback[] eventCallbacks = this.eventCallbacks;
+        final FlightRecorderEvents.Dispatch dispatch = new FlightRecorderEvents.Dispatch();
+        dispatch.begin();
+        try {
+            for (int i = 0; i < eventCallbacks.length; i++) {
+                EventCallback eventCallback = eventCallbacks[i];
+                if (event.cancelled && (this.skipOnCancelled || !eventCallback.ignoreCancelled)) {
+                    if (this.skipOnCancelled) return;
+                    continue;
+                }
+                FlightRecorderEvents.Listener listener = null;
+                if (this.listenerTraced) {
+                    listener = new FlightRecorderEvents.Listener();
+                    listener.begin();
+                }
+                final long start = this.slowListenerBudget != 0 ? System.nanoTime() : 0L;
+                try {
+                    Consumer<Event> eventInvoker = eventCallback.eventInvoker;
+                    if (eventInvoker != null) {
+                        eventInvoker.accept(event);
+                    } else {
+                        eventCallback.eventCallback.invoke(event);
+                    }
+                } catch (Throwable t) {
+                    this.onCallbackError(t, event, i);
+                } finally {
+                    final long nanos = this.slowListenerBudget != 0 ? System.nanoTime() - start : 0L;
+                    if (listener != null) {
+                        listener.end();
+                        if (listener.shouldCommit()) {
+                            listener.eventName = this.eventName;
+                            Object holder = eventCallback.getHolder();
+                            listener.handlerClass = holder == null ? null :
+                                    holder instanceof Class ? (Class<?>) holder : holder.getClass();
+                            listener.priority = eventCallback.priority;
+                            listener.cancelled = event.cancelled;
+                            listener.commit();
+                        }
+                    }
+                    if (this.slowListenerBudget != 0) {
+                        SlowListenerEventDispatcher.onCallbackTimed(
+                                event, eventCallback, nanos, this.slowListenerBudget);
+                    }
+                }
+            }
+        } finally {
+            dispatch.end();
+            if (dispatch.shouldCommit()) {
+                dispatch.eventName = this.eventName;
+                dispatch.listeners = eventCallbacks.length;
+                dispatch.cancelled = event.cancelled;
+                dispatch.commit();
+            }
+        }
+    }
+}
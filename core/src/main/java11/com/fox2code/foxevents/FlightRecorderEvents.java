@@ -0,0 +1,132 @@
+package com.fox2code.foxevents;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR events emitted by FoxEvents, thresholds can be changed with the usual JFR settings,
+ * for example {@code com.fox2code.foxevents.Dispatch#threshold=0 ms}.
+ */
+final class FlightRecorderEvents {
+    private static final EventType DISPATCH_TYPE = EventType.getEventType(Dispatch.class);
+    private static final EventType LISTENER_TYPE = EventType.getEventType(Listener.class);
+
+    private FlightRecorderEvents() {}
+
+    static boolean init() {
+        // Traced dispatchers are only baked while a recording enable them,
+        // recordings don't affect validators, so they are not evaluated again.
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recordingStateChanged(Recording recording) {
+                EventHolder.invalidateAllBakedCallbacks();
+            }
+        });
+        return true;
+    }
+
+    static boolean isDispatchTraced() {
+        return DISPATCH_TYPE.isEnabled() || LISTENER_TYPE.isEnabled();
+    }
+
+    static boolean isListenerTraced() {
+        return LISTENER_TYPE.isEnabled();
+    }
+
+    static Object beginRebake() {
+        Rebake rebake = new Rebake();
+        if (!rebake.isEnabled()) return null;
+        rebake.begin();
+        return rebake;
+    }
+
+    static void endRebake(Object rebakeEvent, EventHolder<?> eventHolder, int callbacks) {
+        Rebake rebake = (Rebake) rebakeEvent;
+        rebake.end();
+        if (rebake.shouldCommit()) {
+            rebake.eventName = eventHolder.getEventName();
+            rebake.listeners = callbacks;
+            rebake.commit();
+        }
+    }
+
+    static Object beginRegistrationScan() {
+        RegistrationScan registrationScan = new RegistrationScan();
+        if (!registrationScan.isEnabled()) return null;
+        registrationScan.begin();
+        return registrationScan;
+    }
+
+    static void endRegistrationScan(Object registrationScanEvent, Class<?> handlerClass, int callbacks) {
+        RegistrationScan registrationScan = (RegistrationScan) registrationScanEvent;
+        registrationScan.end();
+        if (registrationScan.shouldCommit()) {
+            registrationScan.handlerClass = handlerClass;
+            registrationScan.listeners = callbacks;
+            registrationScan.commit();
+        }
+    }
+
+    @Name("com.fox2code.foxevents.Dispatch")
+    @Label("Event Dispatch")
+    @Description("Synchronous dispatch of an event to its listeners")
+    @Category("FoxEvents")
+    @Threshold("1 ms")
+    static final class Dispatch extends jdk.jfr.Event {
+        @Label("Event")
+        String eventName;
+        @Label("Listeners")
+        int listeners;
+        @Label("Cancelled")
+        boolean cancelled;
+    }
+
+    @Name("com.fox2code.foxevents.Listener")
+    @Label("Listener Invocation")
+    @Description("Invocation of a single listener during an event dispatch")
+    @Category("FoxEvents")
+    @Threshold("1 ms")
+    @StackTrace(false)
+    static final class Listener extends jdk.jfr.Event {
+        @Label("Event")
+        String eventName;
+        @Label("Handler Class")
+        Class<?> handlerClass;
+        @Label("Priority")
+        int priority;
+        @Label("Cancelled Event")
+        boolean cancelled;
+    }
+
+    @Name("com.fox2code.foxevents.Rebake")
+    @Label("Event Holder Rebake")
+    @Description("Rebuild of the baked listeners of an event holder")
+    @Category("FoxEvents")
+    @Threshold("1 ms")
+    static final class Rebake extends jdk.jfr.Event {
+        @Label("Event")
+        String eventName;
+        @Label("Listeners")
+        int listeners;
+    }
+
+    @Name("com.fox2code.foxevents.RegistrationScan")
+    @Label("Registration Scan")
+    @Description("Scan of an handler class for event handlers")
+    @Category("FoxEvents")
+    @Threshold("1 ms")
+    static final class RegistrationScan extends jdk.jfr.Event {
+        @Label("Handler Class")
+        Class<?> handlerClass;
+        @Label("Listeners")
+        int listeners;
+    }
+}
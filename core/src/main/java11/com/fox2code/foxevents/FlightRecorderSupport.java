@@ -0,0 +1,61 @@
+package com.fox2code.foxevents;
+
+/**
+ * Java Flight Recorder integration, Java 11+ version.
+ * <p>
+ * Events are only emitted when enabled in a recording, the {@code jdk.jfr} module may also
+ * be missing from custom runtimes, in which case this behave like the Java 8 version.
+ */
+final class FlightRecorderSupport {
+    private static final boolean AVAILABLE = isAvailable();
+
+    private FlightRecorderSupport() {}
+
+    private static boolean isAvailable() {
+        try {
+            return FlightRecorderEvents.init();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Called when baking, holders are re-baked when recordings start or stop.
+     *
+     * @return if dispatches should be traced
+     */
+    static boolean isDispatchTraced() {
+        return AVAILABLE && FlightRecorderEvents.isDispatchTraced();
+    }
+
+    /**
+     * @param slowListenerBudget the slow listener budget, reported by the dispatcher if not {@code 0}
+     * @return a dispatcher emitting dispatch events, or {@code null} if dispatches are not traced
+     */
+    static EventDispatcher makeDispatcher(EventHolder<?> eventHolder, EventCallback[] eventCallbacks,
+                                          boolean skipOnCancelled, long slowListenerBudget) {
+        if (!isDispatchTraced()) return null;
+        return new FlightRecorderEventDispatcher(eventHolder, eventCallbacks,
+                skipOnCancelled, FlightRecorderEvents.isListenerTraced(), slowListenerBudget);
+    }
+
+    static Object beginRebake() {
+        return AVAILABLE ? FlightRecorderEvents.beginRebake() : null;
+    }
+
+    static void endRebake(Object rebakeEvent, EventHolder<?> eventHolder, int callbacks) {
+        if (rebakeEvent != null) {
+            FlightRecorderEvents.endRebake(rebakeEvent, eventHolder, callbacks);
+        }
+    }
+
+    static Object beginRegistrationScan() {
+        return AVAILABLE ? FlightRecorderEvents.beginRegistrationScan() : null;
+    }
+
+    static void endRegistrationScan(Object registrationScanEvent, Class<?> handlerClass, int callbacks) {
+        if (registrationScanEvent != null) {
+            FlightRecorderEvents.endRegistrationScan(registrationScanEvent, handlerClass, callbacks);
+        }
+    }
+}
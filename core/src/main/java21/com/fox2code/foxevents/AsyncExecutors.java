@@ -0,0 +1,19 @@
+package com.fox2code.foxevents;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Default executors used for asynchronous dispatch, Java 21+ version.
+ */
+final class AsyncExecutors {
+    static final Executor DEFAULT_EXECUTOR = newDefaultExecutor();
+
+    private AsyncExecutors() {}
+
+    private static ExecutorService newDefaultExecutor() {
+        return Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("FoxEvents Async #", 1).factory());
+    }
+}
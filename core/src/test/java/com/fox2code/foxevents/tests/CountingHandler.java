@@ -0,0 +1,17 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.EventHandler;
+
+public class CountingHandler {
+    public int basicCalls, secondaryCalls;
+
+    @EventHandler
+    public void onBasicEvent(BasicEvent basicEvent) {
+        this.basicCalls++;
+    }
+
+    @EventHandler
+    public void onBasicSecondaryEvent(BasicSecondaryEvent basicSecondaryEvent) {
+        this.secondaryCalls++;
+    }
+}
@@ -0,0 +1,21 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.EventHandler;
+
+import java.lang.invoke.MethodHandles;
+
+public class LambdaHandler {
+    static final MethodHandles.Lookup SELF_LOOKUP = MethodHandles.lookup();
+    static int staticCallCount;
+    int callCount;
+
+    @EventHandler
+    public void onBasicSecondaryEvent(BasicSecondaryEvent event) {
+        this.callCount++;
+    }
+
+    @EventHandler
+    public static void onBasicSecondaryEventStatic(BasicSecondaryEvent event) {
+        staticCallCount++;
+    }
+}
@@ -0,0 +1,39 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.EventHandler;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class PriorityHandler {
+    public final List<String> calls = new CopyOnWriteArrayList<>();
+    public volatile boolean shouldCancel;
+    public volatile Thread callingThread;
+
+    protected void addCall(String call, CancellableEvent cancellableEvent) {
+        this.calls.add(call);
+    }
+
+    protected boolean shouldCancel(CancellableEvent cancellableEvent) {
+        return this.shouldCancel;
+    }
+
+    @EventHandler(priority = 3000)
+    public void onFirst(CancellableEvent cancellableEvent) {
+        this.callingThread = Thread.currentThread();
+        this.addCall("first", cancellableEvent);
+        if (this.shouldCancel(cancellableEvent)) {
+            cancellableEvent.setCancelled(true);
+        }
+    }
+
+    @EventHandler(priority = 2000)
+    public void onSecond(CancellableEvent cancellableEvent) {
+        this.addCall("second", cancellableEvent);
+    }
+
+    @EventHandler(ignoreCancelled = true, priority = 0)
+    public void onIgnoreCancelled(CancellableEvent cancellableEvent) {
+        this.addCall("ignoreCancelled", cancellableEvent);
+    }
+}
@@ -0,0 +1,78 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.EventHandler;
+import com.fox2code.foxevents.EventHolder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class TestAsyncDispatch {
+    private static final EventHolder<BasicEvent> BASIC_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(BasicEvent.class);
+    private static final EventHolder<CancellableEvent> CANCELLABLE_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(CancellableEvent.class);
+
+    volatile boolean shouldThrow;
+
+    @Test
+    public synchronized void testCallEventAsync() throws Exception {
+        PriorityHandler handler = new PriorityHandler();
+        TextFoxEvents.INSTANCE.registerEvents(handler);
+        try {
+            CancellableEvent cancellableEvent = new CancellableEvent();
+            CompletableFuture<CancellableEvent> future = CANCELLABLE_EVENT_HOLDER.callEventAsync(cancellableEvent);
+            Assertions.assertSame(cancellableEvent, future.get(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(Arrays.asList("first", "second", "ignoreCancelled"), handler.calls);
+            Assertions.assertNotSame(Thread.currentThread(), handler.callingThread);
+            Assertions.assertTrue(handler.callingThread.getName().startsWith("FoxEvents Async #"));
+            handler.calls.clear();
+            handler.shouldCancel = true;
+            cancellableEvent = new CancellableEvent();
+            Assertions.assertTrue(CANCELLABLE_EVENT_HOLDER.callEventAsync(cancellableEvent)
+                    .get(10, TimeUnit.SECONDS).isCancelled());
+            Assertions.assertEquals(Arrays.asList("first", "ignoreCancelled"), handler.calls);
+        } finally {
+            TextFoxEvents.INSTANCE.unregisterEvents(handler);
+        }
+    }
+
+    @Test
+    public synchronized void testCallEventAsyncExecutor() throws Exception {
+        PriorityHandler handler = new PriorityHandler();
+        TextFoxEvents.INSTANCE.registerEvents(handler);
+        try {
+            CANCELLABLE_EVENT_HOLDER.callEventAsync(new CancellableEvent(), Runnable::run)
+                    .get(10, TimeUnit.SECONDS);
+            Assertions.assertSame(Thread.currentThread(), handler.callingThread);
+        } finally {
+            TextFoxEvents.INSTANCE.unregisterEvents(handler);
+        }
+    }
+
+    @Test
+    public synchronized void testCallEventAsyncError() throws InterruptedException, TimeoutException {
+        TextFoxEvents.INSTANCE.registerEvents(this);
+        this.shouldThrow = true;
+        try {
+            BASIC_EVENT_HOLDER.callEventAsync(new BasicEvent()).get(10, TimeUnit.SECONDS);
+            Assertions.fail("Async event didn't complete exceptionally");
+        } catch (ExecutionException e) {
+            Assertions.assertTrue(e.getCause() instanceof IllegalStateException);
+        } finally {
+            this.shouldThrow = false;
+            TextFoxEvents.INSTANCE.unregisterEvents(this);
+        }
+    }
+
+    @EventHandler
+    public void onBasicEvent(BasicEvent basicEvent) {
+        if (this.shouldThrow) {
+            throw new IllegalStateException("Expected exception");
+        }
+    }
+}
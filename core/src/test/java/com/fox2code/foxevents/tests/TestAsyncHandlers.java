@@ -0,0 +1,105 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.EventCallback;
+import com.fox2code.foxevents.EventHandler;
+import com.fox2code.foxevents.EventHolder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class TestAsyncHandlers {
+    private static final EventHolder<CancellableEvent> CANCELLABLE_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(CancellableEvent.class);
+
+    final List<String> calls = new CopyOnWriteArrayList<>();
+    volatile boolean shouldCancel;
+    volatile CountDownLatch asyncLatch = new CountDownLatch(0);
+    volatile Thread asyncThread;
+
+    @Test
+    public synchronized void testAsyncHandlersCalledAfterSyncChain() throws InterruptedException {
+        TextFoxEvents.INSTANCE.registerEvents(this);
+        try {
+            this.asyncLatch = new CountDownLatch(1);
+            CANCELLABLE_EVENT_HOLDER.callEvent(new CancellableEvent());
+            Assertions.assertTrue(this.asyncLatch.await(10, TimeUnit.SECONDS));
+            // The async handler has the highest priority, but is only called after sync handlers
+            Assertions.assertEquals(3, this.calls.size());
+            Assertions.assertEquals("sync", this.calls.get(0));
+            Assertions.assertTrue(this.calls.containsAll(Arrays.asList("caller", "async")));
+            Assertions.assertNotSame(Thread.currentThread(), this.asyncThread);
+            Assertions.assertTrue(this.asyncThread.getName().startsWith("FoxEvents Async #"));
+        } finally {
+            this.calls.clear();
+            TextFoxEvents.INSTANCE.unregisterEvents(this);
+        }
+    }
+
+    @Test
+    public synchronized void testAsyncHandlersSeeFinalCancellation() {
+        TextFoxEvents.INSTANCE.registerEvents(this);
+        this.shouldCancel = true;
+        try {
+            CANCELLABLE_EVENT_HOLDER.callEvent(new CancellableEvent());
+            // Only the "caller" executor ignore cancelled events, and it run on the calling thread
+            Assertions.assertEquals(Arrays.asList("sync", "caller"), this.calls);
+        } finally {
+            this.shouldCancel = false;
+            this.calls.clear();
+            TextFoxEvents.INSTANCE.unregisterEvents(this);
+        }
+    }
+
+    @Test
+    public synchronized void testAsyncHandlersDispatchHandle() throws Throwable {
+        TextFoxEvents.INSTANCE.registerEvents(this);
+        this.shouldCancel = true;
+        try {
+            CANCELLABLE_EVENT_HOLDER.getDispatchHandle().invokeExact(new CancellableEvent());
+            Assertions.assertEquals(Arrays.asList("sync", "caller"), this.calls);
+        } finally {
+            this.shouldCancel = false;
+            this.calls.clear();
+            TextFoxEvents.INSTANCE.unregisterEvents(this);
+        }
+    }
+
+    @Test
+    public void testAsyncEventCallbacks() {
+        int async = 0;
+        for (EventCallback eventCallback : TextFoxEvents.INSTANCE.getEventCallbacksTesting(this, null)) {
+            if (eventCallback.isAsync()) {
+                async++;
+                Assertions.assertNotNull(eventCallback.asyncExecutor);
+            } else {
+                Assertions.assertNull(eventCallback.asyncExecutor);
+            }
+        }
+        Assertions.assertEquals(2, async);
+    }
+
+    @EventHandler(priority = 1000)
+    public void onSync(CancellableEvent cancellableEvent) {
+        this.calls.add("sync");
+        if (this.shouldCancel) {
+            cancellableEvent.setCancelled(true);
+        }
+    }
+
+    @EventHandler(async = true, priority = 2000)
+    public void onAsync(CancellableEvent cancellableEvent) {
+        this.asyncThread = Thread.currentThread();
+        this.calls.add("async");
+        this.asyncLatch.countDown();
+    }
+
+    @EventHandler(async = true, executor = "caller", ignoreCancelled = true)
+    public void onCaller(CancellableEvent cancellableEvent) {
+        this.calls.add("caller");
+    }
+}
@@ -0,0 +1,109 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.DispatchStrategy;
+import com.fox2code.foxevents.EventHolder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class TestBatchDispatch {
+    private static final EventHolder<CancellableEvent> CANCELLABLE_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(CancellableEvent.class);
+
+    @Test
+    public synchronized void testCallEventsListenerMajor() {
+        BatchHandler handler = new BatchHandler();
+        TextFoxEvents.INSTANCE.registerEvents(handler);
+        try {
+            CancellableEvent[] events = new CancellableEvent[]{
+                    new CancellableEvent(), new CancellableEvent(), new CancellableEvent()};
+            handler.batch = Arrays.asList(events);
+            handler.cancelledEvent = events[1];
+            CANCELLABLE_EVENT_HOLDER.callEvents(events);
+            Assertions.assertEquals(Arrays.asList(
+                    "first0", "first1", "first2",
+                    "second0", "second2",
+                    "ignoreCancelled0", "ignoreCancelled1", "ignoreCancelled2"), handler.calls);
+            Assertions.assertFalse(events[0].isCancelled());
+            Assertions.assertTrue(events[1].isCancelled());
+            Assertions.assertFalse(events[2].isCancelled());
+        } finally {
+            TextFoxEvents.INSTANCE.unregisterEvents(handler);
+        }
+    }
+
+    @Test
+    public synchronized void testCallEventsRange() {
+        BatchHandler handler = new BatchHandler();
+        TextFoxEvents.INSTANCE.registerEvents(handler);
+        try {
+            CancellableEvent[] events = new CancellableEvent[]{
+                    new CancellableEvent(), new CancellableEvent(), new CancellableEvent()};
+            handler.batch = Arrays.asList(events);
+            CANCELLABLE_EVENT_HOLDER.callEvents(events, 1, 2);
+            Assertions.assertEquals(Arrays.asList("first1", "second1", "ignoreCancelled1"), handler.calls);
+            Assertions.assertThrows(IndexOutOfBoundsException.class,
+                    () -> CANCELLABLE_EVENT_HOLDER.callEvents(events, 2, 4));
+            Assertions.assertThrows(IndexOutOfBoundsException.class,
+                    () -> CANCELLABLE_EVENT_HOLDER.callEvents(events, 2, 1));
+        } finally {
+            TextFoxEvents.INSTANCE.unregisterEvents(handler);
+        }
+    }
+
+    @Test
+    public synchronized void testCallEventsIterable() {
+        BatchHandler handler = new BatchHandler();
+        TextFoxEvents.INSTANCE.registerEvents(handler);
+        try {
+            List<CancellableEvent> events = Arrays.asList(new CancellableEvent(), new CancellableEvent());
+            handler.batch = events;
+            handler.cancelledEvent = events.get(0);
+            CANCELLABLE_EVENT_HOLDER.callEvents(events);
+            CANCELLABLE_EVENT_HOLDER.callEvents(Collections.emptyList());
+            Assertions.assertEquals(Arrays.asList(
+                    "first0", "first1", "second1", "ignoreCancelled0", "ignoreCancelled1"), handler.calls);
+        } finally {
+            TextFoxEvents.INSTANCE.unregisterEvents(handler);
+        }
+    }
+
+    @Test
+    public synchronized void testCallEventsBakedDispatcher() throws Exception {
+        BatchHandler handler = new BatchHandler();
+        TextFoxEvents.INSTANCE.withConfig(
+                config -> config.dispatchStrategy = DispatchStrategy.METHOD_HANDLE_TREE, eventCallbacks -> {
+            CancellableEvent[] events = new CancellableEvent[]{
+                    new CancellableEvent(), new CancellableEvent(), new CancellableEvent()};
+            handler.batch = Arrays.asList(events);
+            handler.cancelledEvent = events[1];
+            CANCELLABLE_EVENT_HOLDER.callEvents(events);
+            // The baked dispatcher is used for each event in turn
+            Assertions.assertEquals(Arrays.asList(
+                    "first0", "second0", "ignoreCancelled0",
+                    "first1", "ignoreCancelled1",
+                    "first2", "second2", "ignoreCancelled2"), handler.calls);
+        }, handler);
+    }
+
+    /**
+     * Record calls with the index of the event in the batch, and only cancel one event
+     */
+    public static class BatchHandler extends PriorityHandler {
+        List<CancellableEvent> batch = Collections.emptyList();
+        CancellableEvent cancelledEvent;
+
+        @Override
+        protected void addCall(String call, CancellableEvent cancellableEvent) {
+            super.addCall(call + this.batch.indexOf(cancellableEvent), cancellableEvent);
+        }
+
+        @Override
+        protected boolean shouldCancel(CancellableEvent cancellableEvent) {
+            return cancellableEvent == this.cancelledEvent;
+        }
+    }
+}
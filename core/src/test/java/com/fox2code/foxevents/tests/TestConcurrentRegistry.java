@@ -0,0 +1,137 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.EventCallback;
+import com.fox2code.foxevents.EventHandler;
+import com.fox2code.foxevents.EventHolder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TestConcurrentRegistry {
+    private static final EventHolder<BasicSecondaryEvent> BASIC_SECONDARY_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(BasicSecondaryEvent.class);
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 500;
+
+    @Test
+    public synchronized void testUnregisterEventCallback() {
+        Listener listener = new Listener();
+        List<EventCallback> eventCallbacks =
+                TextFoxEvents.INSTANCE.getEventCallbacksTesting(listener, null);
+        Assertions.assertEquals(1, eventCallbacks.size());
+        EventCallback eventCallback = eventCallbacks.get(0);
+        try {
+            Assertions.assertTrue(TextFoxEvents.INSTANCE.registerEventCallbackTesting(eventCallback));
+            Assertions.assertFalse(TextFoxEvents.INSTANCE.registerEventCallbackTesting(eventCallback));
+            BASIC_SECONDARY_EVENT_HOLDER.callEvent(new BasicSecondaryEvent());
+            Assertions.assertEquals(1, listener.calls.get());
+            Assertions.assertTrue(TextFoxEvents.INSTANCE.unregisterEventCallbackTesting(eventCallback));
+            Assertions.assertFalse(TextFoxEvents.INSTANCE.unregisterEventCallbackTesting(eventCallback));
+            BASIC_SECONDARY_EVENT_HOLDER.callEvent(new BasicSecondaryEvent());
+            Assertions.assertEquals(1, listener.calls.get());
+        } finally {
+            TextFoxEvents.INSTANCE.unregisterEvents(listener);
+        }
+    }
+
+    @Test
+    public synchronized void testConcurrentRegistration() throws InterruptedException {
+        Listener stable = new Listener();
+        TextFoxEvents.INSTANCE.registerEvents(stable);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        List<Listener> listeners = new ArrayList<>();
+        AtomicInteger dispatched = new AtomicInteger();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                Listener listener = new Listener();
+                listeners.add(listener);
+                threads.add(new Thread(() -> {
+                    try {
+                        start.await();
+                        for (int j = 0; j < ITERATIONS; j++) {
+                            TextFoxEvents.INSTANCE.registerEvents(listener);
+                            BASIC_SECONDARY_EVENT_HOLDER.callEvent(new BasicSecondaryEvent());
+                            dispatched.incrementAndGet();
+                            TextFoxEvents.INSTANCE.unregisterEvents(listener);
+                        }
+                    } catch (Throwable throwable) {
+                        error.compareAndSet(null, throwable);
+                    }
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            Assertions.assertNull(error.get());
+            // The stable listener must never miss a dispatch
+            Assertions.assertEquals(dispatched.get(), stable.calls.get());
+            int[] calls = new int[THREADS];
+            for (int i = 0; i < THREADS; i++) {
+                calls[i] = listeners.get(i).calls.get();
+                // Each listener must at least have received its own events
+                Assertions.assertTrue(calls[i] >= ITERATIONS);
+            }
+            // Unregistered listeners must no longer be called
+            BASIC_SECONDARY_EVENT_HOLDER.callEvent(new BasicSecondaryEvent());
+            Assertions.assertEquals(dispatched.get() + 1, stable.calls.get());
+            for (int i = 0; i < THREADS; i++) {
+                Assertions.assertEquals(calls[i], listeners.get(i).calls.get());
+            }
+        } finally {
+            TextFoxEvents.INSTANCE.unregisterEvents(stable);
+            for (Listener listener : listeners) {
+                TextFoxEvents.INSTANCE.unregisterEvents(listener);
+            }
+        }
+    }
+
+    @Test
+    public synchronized void testUnregisterAmongSamePriority() {
+        List<EventCallback> eventCallbacks = new ArrayList<>();
+        List<Listener> listeners = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Listener listener = new Listener();
+            listeners.add(listener);
+            eventCallbacks.addAll(TextFoxEvents.INSTANCE.getEventCallbacksTesting(listener, null));
+        }
+        try {
+            for (EventCallback eventCallback : eventCallbacks) {
+                Assertions.assertTrue(TextFoxEvents.INSTANCE.registerEventCallbackTesting(eventCallback));
+            }
+            for (int i = 0; i < eventCallbacks.size(); i += 2) {
+                Assertions.assertTrue(TextFoxEvents.INSTANCE.unregisterEventCallbackTesting(eventCallbacks.get(i)));
+            }
+            BASIC_SECONDARY_EVENT_HOLDER.callEvent(new BasicSecondaryEvent());
+            for (int i = 0; i < listeners.size(); i++) {
+                Assertions.assertEquals(i % 2, listeners.get(i).calls.get());
+            }
+            // Unregistered callbacks can be registered again
+            Assertions.assertTrue(TextFoxEvents.INSTANCE.registerEventCallbackTesting(eventCallbacks.get(0)));
+            Assertions.assertFalse(TextFoxEvents.INSTANCE.registerEventCallbackTesting(eventCallbacks.get(0)));
+        } finally {
+            for (Listener listener : listeners) {
+                TextFoxEvents.INSTANCE.unregisterEvents(listener);
+            }
+        }
+    }
+
+    public static class Listener {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @EventHandler
+        public void onBasicSecondaryEvent(BasicSecondaryEvent basicSecondaryEvent) {
+            this.calls.incrementAndGet();
+        }
+    }
+}
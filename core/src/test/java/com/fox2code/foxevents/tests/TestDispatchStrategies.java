@@ -0,0 +1,169 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.DispatchStrategy;
+import com.fox2code.foxevents.EventHandler;
+import com.fox2code.foxevents.EventHolder;
+import com.fox2code.foxevents.EventRegistryMXBean;
+import com.fox2code.foxevents.FoxEvents;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Arrays;
+
+public class TestDispatchStrategies extends PriorityHandler {
+    private static final EventHolder<BasicEvent> BASIC_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(BasicEvent.class);
+    private static final EventHolder<CancellableEvent> CANCELLABLE_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(CancellableEvent.class);
+    private static final MethodHandle CANCELLABLE_EVENT_DISPATCH = CANCELLABLE_EVENT_HOLDER.getDispatchHandle();
+    private static final MethodHandle UNLISTENED_DELEGATE_EVENT_IS_EMPTY =
+            EventHolder.getHolderFromEvent(UnlistenedDelegateEvent.class).getIsEmptyHandle();
+    private static final MethodHandle UNLISTENED_CHILD_EVENT_IS_EMPTY =
+            EventHolder.getHolderFromEvent(UnlistenedChildEvent.class).getIsEmptyHandle();
+
+    volatile boolean shouldThrow;
+
+    private void withStrategy(DispatchStrategy dispatchStrategy, TextFoxEvents.ConfigAction action) throws Exception {
+        TextFoxEvents.INSTANCE.withConfig(config -> config.dispatchStrategy = dispatchStrategy, action, this);
+    }
+
+    @Test
+    public synchronized void testPriorityOrder() throws Exception {
+        for (DispatchStrategy dispatchStrategy : DispatchStrategy.values()) {
+            this.withStrategy(dispatchStrategy, eventCallbacks -> {
+                this.calls.clear();
+                this.shouldCancel = false;
+                CANCELLABLE_EVENT_HOLDER.callEvent(new CancellableEvent());
+                Assertions.assertEquals(Arrays.asList("first", "second", "ignoreCancelled"),
+                        this.calls, dispatchStrategy.name());
+            });
+        }
+    }
+
+    @Test
+    public synchronized void testCancellation() throws Exception {
+        for (DispatchStrategy dispatchStrategy : DispatchStrategy.values()) {
+            this.withStrategy(dispatchStrategy, eventCallbacks -> {
+                this.calls.clear();
+                this.shouldCancel = true;
+                CancellableEvent cancellableEvent = new CancellableEvent();
+                CANCELLABLE_EVENT_HOLDER.callEvent(cancellableEvent);
+                Assertions.assertTrue(cancellableEvent.isCancelled());
+                Assertions.assertEquals(Arrays.asList("first", "ignoreCancelled"),
+                        this.calls, dispatchStrategy.name());
+            });
+        }
+    }
+
+    @Test
+    public synchronized void testSkipOnCancelled() throws Exception {
+        for (DispatchStrategy dispatchStrategy : DispatchStrategy.values()) {
+            this.withStrategy(dispatchStrategy, eventCallbacks -> {
+                this.calls.clear();
+                BasicEvent basicEvent = new BasicEvent();
+                BASIC_EVENT_HOLDER.callEvent(basicEvent);
+                Assertions.assertEquals(Arrays.asList("basic"), this.calls, dispatchStrategy.name());
+                FoxEvents.Unsafe.setCancelledUnsafe(basicEvent, true);
+                this.calls.clear();
+                BASIC_EVENT_HOLDER.callEvent(basicEvent);
+                Assertions.assertEquals(Arrays.asList(), this.calls, dispatchStrategy.name());
+            });
+        }
+    }
+
+    @Test
+    public synchronized void testErrorPropagation() throws Exception {
+        for (DispatchStrategy dispatchStrategy : DispatchStrategy.values()) {
+            this.withStrategy(dispatchStrategy, eventCallbacks -> {
+                this.shouldThrow = true;
+                try {
+                    Assertions.assertThrows(IllegalStateException.class,
+                            () -> BASIC_EVENT_HOLDER.callEvent(new BasicEvent()), dispatchStrategy.name());
+                } finally {
+                    this.shouldThrow = false;
+                }
+            });
+        }
+    }
+
+    @Test
+    public synchronized void testDispatchHandle() throws Exception {
+        for (DispatchStrategy dispatchStrategy : DispatchStrategy.values()) {
+            this.withStrategy(dispatchStrategy, eventCallbacks -> {
+                this.calls.clear();
+                this.shouldCancel = true;
+                CancellableEvent cancellableEvent = new CancellableEvent();
+                invokeDispatchHandle(cancellableEvent);
+                Assertions.assertEquals(Arrays.asList("first", "ignoreCancelled"),
+                        this.calls, dispatchStrategy.name());
+                this.calls.clear();
+                TextFoxEvents.INSTANCE.invalidateCallbackValidatorsTesting();
+                invokeDispatchHandle(new CancellableEvent());
+                Assertions.assertEquals(Arrays.asList("first", "ignoreCancelled"),
+                        this.calls, dispatchStrategy.name());
+            });
+            this.calls.clear();
+            invokeDispatchHandle(new CancellableEvent());
+            Assertions.assertEquals(Arrays.asList(), this.calls, dispatchStrategy.name());
+        }
+    }
+
+    @Test
+    public synchronized void testIsEmptyHandle() throws Throwable {
+        Assertions.assertTrue((boolean) UNLISTENED_DELEGATE_EVENT_IS_EMPTY.invokeExact());
+        DelegateHandler delegateHandler = new DelegateHandler();
+        TextFoxEvents.INSTANCE.registerEvents(delegateHandler);
+        try {
+            Assertions.assertFalse((boolean) UNLISTENED_DELEGATE_EVENT_IS_EMPTY.invokeExact());
+            Assertions.assertFalse((boolean) UNLISTENED_CHILD_EVENT_IS_EMPTY.invokeExact());
+        } finally {
+            TextFoxEvents.INSTANCE.unregisterEvents(delegateHandler);
+        }
+        Assertions.assertTrue((boolean) UNLISTENED_DELEGATE_EVENT_IS_EMPTY.invokeExact());
+    }
+
+    @Test
+    public synchronized void testDelegateParentNotResolved() throws Exception {
+        TextFoxEvents.INSTANCE.withConfig(
+                config -> config.dispatchStrategy = DispatchStrategy.METHOD_HANDLE_TREE, eventCallbacks -> {
+            EventHolder.getHolderFromEvent(UnlistenedChildEvent.class).ensureBaked();
+            // Childs are baked from the parent snapshot, the abstract parent dispatcher is never made
+            Assertions.assertNotNull(getDispatcher(UnlistenedChildEvent.class));
+            Assertions.assertNull(getDispatcher(UnlistenedDelegateEvent.class));
+        }, new DelegateHandler());
+    }
+
+    private static String getDispatcher(Class<?> eventClass) {
+        String classLoader = String.valueOf(eventClass.getClassLoader());
+        for (EventRegistryMXBean.EventHolderInfo eventHolderInfo :
+                TextFoxEvents.INSTANCE.getEventRegistryTesting().getEventHolders()) {
+            if (eventHolderInfo.getEventName().equals(eventClass.getName()) &&
+                    classLoader.equals(eventHolderInfo.getClassLoader())) {
+                return eventHolderInfo.getDispatcher();
+            }
+        }
+        throw new AssertionError("No event holder for " + eventClass.getName());
+    }
+
+    private static void invokeDispatchHandle(CancellableEvent cancellableEvent) {
+        try {
+            CANCELLABLE_EVENT_DISPATCH.invokeExact(cancellableEvent);
+        } catch (Throwable t) {
+            throw new AssertionError(t);
+        }
+    }
+
+    @EventHandler
+    public void onBasicEvent(BasicEvent basicEvent) {
+        this.calls.add("basic");
+        if (this.shouldThrow) {
+            throw new IllegalStateException("Expected exception");
+        }
+    }
+
+    public static class DelegateHandler {
+        @EventHandler
+        public void onUnlistenedDelegateEvent(UnlistenedDelegateEvent event) {}
+    }
+}
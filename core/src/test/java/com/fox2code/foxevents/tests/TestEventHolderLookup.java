@@ -0,0 +1,94 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.EventHolder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TestEventHolderLookup {
+    private static final int THREADS = 8;
+
+    @Test
+    public void testConcurrentLookup() throws InterruptedException {
+        IsolatedClassLoader classLoader = new IsolatedClassLoader();
+        Class<?> eventClass = classLoader.loadIsolated(BasicEvent.class);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        EventHolder<?>[] eventHolders = new EventHolder<?>[THREADS];
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        for (int i = 0; i < THREADS; i++) {
+            final int index = i;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    eventHolders[index] = EventHolder.getHolderFromEventRaw(eventClass);
+                } catch (Throwable throwable) {
+                    error.compareAndSet(null, throwable);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assertions.assertNull(error.get());
+        for (EventHolder<?> eventHolder : eventHolders) {
+            Assertions.assertSame(eventHolders[0], eventHolder);
+        }
+        Assertions.assertSame(eventClass, eventHolders[0].getEvent());
+        final int[] counter = new int[]{0};
+        EventHolder.forEachEventHolder(classLoader, eventHolder -> counter[0]++);
+        Assertions.assertEquals(1, counter[0]);
+    }
+
+    @Test
+    public void testClassLoaderUnload() throws InterruptedException {
+        WeakReference<ClassLoader> classLoaderReference = lookupIsolatedHolder();
+        for (int i = 0; i < 50 && classLoaderReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        Assertions.assertNull(classLoaderReference.get(), "Event holder leaked its class loader");
+    }
+
+    private static WeakReference<ClassLoader> lookupIsolatedHolder() {
+        IsolatedClassLoader classLoader = new IsolatedClassLoader();
+        Class<?> eventClass = classLoader.loadIsolated(BasicEvent.class);
+        Assertions.assertTrue(EventHolder.getHolderFromEventRaw(eventClass).isEmpty());
+        return new WeakReference<>(classLoader);
+    }
+
+    static final class IsolatedClassLoader extends ClassLoader {
+        IsolatedClassLoader() {
+            super(TestEventHolderLookup.class.getClassLoader());
+        }
+
+        Class<?> loadIsolated(Class<?> cls) {
+            String resource = cls.getName().replace('.', '/') + ".class";
+            try (InputStream inputStream = cls.getClassLoader().getResourceAsStream(resource)) {
+                Assertions.assertNotNull(inputStream);
+                ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    byteArrayOutputStream.write(buffer, 0, read);
+                }
+                byte[] bytes = byteArrayOutputStream.toByteArray();
+                return this.defineClass(cls.getName(), bytes, 0, bytes.length);
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
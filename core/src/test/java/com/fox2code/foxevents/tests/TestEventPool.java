@@ -0,0 +1,86 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.EventHandler;
+import com.fox2code.foxevents.EventHolder;
+import com.fox2code.foxevents.EventPool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestEventPool {
+    private static final EventHolder<CancellableEvent> CANCELLABLE_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(CancellableEvent.class);
+
+    final List<CancellableEvent> received = new ArrayList<>();
+    boolean shouldCancel;
+
+    @Test
+    public synchronized void testThreadLocalPool() {
+        this.testPool(EventPool.threadLocal(CANCELLABLE_EVENT_HOLDER, CancellableEvent::new));
+    }
+
+    @Test
+    public synchronized void testStripedPool() {
+        this.testPool(EventPool.striped(CANCELLABLE_EVENT_HOLDER, CancellableEvent::new, 4));
+    }
+
+    @Test
+    public void testUseAfterRelease() {
+        EventPool<CancellableEvent> eventPool = EventPool.threadLocal(CANCELLABLE_EVENT_HOLDER, CancellableEvent::new);
+        CancellableEvent cancellableEvent = eventPool.acquire();
+        eventPool.callEvent(cancellableEvent);
+        // Tests run with foxevents.pool-debug
+        Assertions.assertThrows(IllegalStateException.class, cancellableEvent::callEvent);
+        Assertions.assertThrows(IllegalStateException.class, () -> CANCELLABLE_EVENT_HOLDER.callEvents(
+                new CancellableEvent[]{new CancellableEvent(), cancellableEvent}));
+        Assertions.assertThrows(IllegalStateException.class, () -> eventPool.release(cancellableEvent));
+        Assertions.assertSame(cancellableEvent, eventPool.acquire());
+        cancellableEvent.callEvent();
+        eventPool.release(cancellableEvent);
+    }
+
+    @Test
+    public void testPoolCapacity() {
+        EventPool<CancellableEvent> eventPool = EventPool.threadLocal(
+                CANCELLABLE_EVENT_HOLDER, CancellableEvent::new, 1);
+        CancellableEvent first = eventPool.acquire();
+        CancellableEvent second = eventPool.acquire();
+        Assertions.assertNotSame(first, second);
+        eventPool.release(first);
+        eventPool.release(second);
+        Assertions.assertSame(first, eventPool.acquire());
+        Assertions.assertNotSame(second, eventPool.acquire());
+    }
+
+    private void testPool(EventPool<CancellableEvent> eventPool) {
+        TextFoxEvents.INSTANCE.registerEvents(this);
+        try {
+            this.shouldCancel = true;
+            eventPool.callEvent(cancellableEvent -> Assertions.assertFalse(cancellableEvent.isCancelled()));
+            this.shouldCancel = false;
+            eventPool.callEvent((cancellableEvent, self) ->
+                    Assertions.assertFalse(cancellableEvent.isCancelled()), this);
+            Assertions.assertEquals(2, this.received.size());
+            // The event is reused, and was cleaned up after its first dispatch
+            Assertions.assertSame(this.received.get(0), this.received.get(1));
+            Assertions.assertFalse(this.received.get(0).isCancelled());
+            CancellableEvent cancellableEvent = eventPool.acquire();
+            Assertions.assertSame(this.received.get(0), cancellableEvent);
+            Assertions.assertNotSame(cancellableEvent, eventPool.acquire());
+        } finally {
+            this.shouldCancel = false;
+            this.received.clear();
+            TextFoxEvents.INSTANCE.unregisterEvents(this);
+        }
+    }
+
+    @EventHandler
+    public void onCancellableEvent(CancellableEvent cancellableEvent) {
+        this.received.add(cancellableEvent);
+        if (this.shouldCancel) {
+            cancellableEvent.setCancelled(true);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.EventHolder;
+import com.fox2code.foxevents.EventRegistration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestEventRegistration {
+    private static final EventHolder<BasicEvent> BASIC_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(BasicEvent.class);
+    private static final EventHolder<BasicSecondaryEvent> BASIC_SECONDARY_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(BasicSecondaryEvent.class);
+
+    @Test
+    public synchronized void testRegistrationHandle() {
+        CountingHandler countingHandler = new CountingHandler();
+        EventRegistration eventRegistration = TextFoxEvents.INSTANCE.registerEventsHandle(countingHandler);
+        try {
+            Assertions.assertEquals(2, eventRegistration.getEventCallbacks().size());
+            BASIC_EVENT_HOLDER.callEvent(new BasicEvent());
+            BASIC_SECONDARY_EVENT_HOLDER.callEvent(new BasicSecondaryEvent());
+            Assertions.assertEquals(1, countingHandler.basicCalls);
+            Assertions.assertEquals(1, countingHandler.secondaryCalls);
+            Assertions.assertTrue(eventRegistration.unregister());
+            Assertions.assertTrue(eventRegistration.isUnregistered());
+            Assertions.assertFalse(eventRegistration.unregister());
+            BASIC_EVENT_HOLDER.callEvent(new BasicEvent());
+            BASIC_SECONDARY_EVENT_HOLDER.callEvent(new BasicSecondaryEvent());
+            Assertions.assertEquals(1, countingHandler.basicCalls);
+            Assertions.assertEquals(1, countingHandler.secondaryCalls);
+        } finally {
+            TextFoxEvents.INSTANCE.unregisterEvents(countingHandler);
+        }
+    }
+
+    @Test
+    public synchronized void testRegistrationHandleSkipDuplicates() {
+        CountingHandler countingHandler = new CountingHandler();
+        EventRegistration eventRegistration = TextFoxEvents.INSTANCE.registerEventCallbacksTesting(
+                TextFoxEvents.INSTANCE.getEventCallbacksTesting(countingHandler, null));
+        try {
+            EventRegistration duplicate = TextFoxEvents.INSTANCE.registerEventCallbacksTesting(
+                    eventRegistration.getEventCallbacks());
+            Assertions.assertTrue(duplicate.getEventCallbacks().isEmpty());
+            Assertions.assertFalse(duplicate.unregister());
+        } finally {
+            Assertions.assertTrue(eventRegistration.unregister());
+        }
+    }
+
+    @Test
+    public synchronized void testCrossClassLoaderUnregister() throws ReflectiveOperationException {
+        TestEventHolderLookup.IsolatedClassLoader classLoader = new TestEventHolderLookup.IsolatedClassLoader();
+        Class<?> handlerClass = classLoader.loadIsolated(CountingHandler.class);
+        Assertions.assertNotSame(CountingHandler.class, handlerClass);
+        Object handler = handlerClass.getConstructor().newInstance();
+        TextFoxEvents.INSTANCE.registerEvents(handler);
+        try {
+            BASIC_SECONDARY_EVENT_HOLDER.callEvent(new BasicSecondaryEvent());
+            Assertions.assertEquals(1, handlerClass.getField("secondaryCalls").getInt(handler));
+        } finally {
+            TextFoxEvents.INSTANCE.unregisterEvents(handler);
+        }
+        BASIC_SECONDARY_EVENT_HOLDER.callEvent(new BasicSecondaryEvent());
+        Assertions.assertEquals(1, handlerClass.getField("secondaryCalls").getInt(handler));
+    }
+}
@@ -0,0 +1,116 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.EventHandler;
+import com.fox2code.foxevents.EventHolder;
+import com.fox2code.foxevents.EventRegistryMXBean;
+import com.fox2code.foxevents.FoxEventsManagement;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+
+public class TestEventRegistry {
+    private static final EventHolder<BasicEvent> BASIC_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(BasicEvent.class);
+    private int calls;
+
+    @Test
+    public synchronized void testDisableListener() {
+        EventRegistryMXBean eventRegistry = TextFoxEvents.INSTANCE.getEventRegistryTesting();
+        int listenerCount = getBasicEventInfo(eventRegistry).getListenerCount();
+        TextFoxEvents.INSTANCE.registerEvents(this);
+        try {
+            BASIC_EVENT_HOLDER.ensureBaked();
+            EventRegistryMXBean.EventHolderInfo basicEventInfo = getBasicEventInfo(eventRegistry);
+            Assertions.assertEquals(listenerCount + 1, basicEventInfo.getListenerCount());
+            Assertions.assertTrue(basicEventInfo.isBaked());
+            String listenerId = getListenerId(eventRegistry);
+            Assertions.assertTrue(eventRegistry.disableListener(listenerId));
+            Assertions.assertFalse(eventRegistry.disableListener(listenerId));
+            Assertions.assertEquals(1, eventRegistry.getDisabledListeners().length);
+            BASIC_EVENT_HOLDER.callEvent(new BasicEvent());
+            Assertions.assertEquals(0, this.calls);
+            Assertions.assertTrue(eventRegistry.enableListener(listenerId));
+            Assertions.assertFalse(eventRegistry.enableListener(listenerId));
+            BASIC_EVENT_HOLDER.callEvent(new BasicEvent());
+            Assertions.assertEquals(1, this.calls);
+        } finally {
+            TextFoxEvents.INSTANCE.unregisterEvents(this);
+            this.calls = 0;
+        }
+    }
+
+    @Test
+    public synchronized void testDisabledListenerDroppedOnUnregister() {
+        EventRegistryMXBean eventRegistry = TextFoxEvents.INSTANCE.getEventRegistryTesting();
+        TextFoxEvents.INSTANCE.registerEvents(this);
+        try {
+            String listenerId = getListenerId(eventRegistry);
+            Assertions.assertTrue(eventRegistry.disableListener(listenerId));
+            // Unregistering the owner drop its disabled listeners, so they can't be enabled again
+            TextFoxEvents.INSTANCE.unregisterEvents(this);
+            Assertions.assertEquals(0, eventRegistry.getDisabledListeners().length);
+            Assertions.assertFalse(eventRegistry.enableListener(listenerId));
+            BASIC_EVENT_HOLDER.callEvent(new BasicEvent());
+            Assertions.assertEquals(0, this.calls);
+            // Listener ids are never reused
+            TextFoxEvents.INSTANCE.registerEvents(this);
+            Assertions.assertNotEquals(listenerId, getListenerId(eventRegistry));
+        } finally {
+            TextFoxEvents.INSTANCE.unregisterEvents(this);
+            this.calls = 0;
+        }
+    }
+
+    private static String getListenerId(EventRegistryMXBean eventRegistry) {
+        String listenerId = null;
+        for (EventRegistryMXBean.EventListenerInfo listenerInfo :
+                eventRegistry.getListeners(BasicEvent.class.getName())) {
+            if (TestEventRegistry.class.getName().equals(listenerInfo.getHandlerClass())) {
+                Assertions.assertNull(listenerId);
+                listenerId = listenerInfo.getId();
+            }
+        }
+        Assertions.assertNotNull(listenerId);
+        return listenerId;
+    }
+
+    private static EventRegistryMXBean.EventHolderInfo getBasicEventInfo(EventRegistryMXBean eventRegistry) {
+        // Other tests may load BasicEvent in isolated class loaders
+        String classLoader = String.valueOf(BasicEvent.class.getClassLoader());
+        EventRegistryMXBean.EventHolderInfo basicEventInfo = null;
+        for (EventRegistryMXBean.EventHolderInfo eventHolderInfo : eventRegistry.getEventHolders()) {
+            if (eventHolderInfo.getEventName().equals(BasicEvent.class.getName()) &&
+                    classLoader.equals(eventHolderInfo.getClassLoader())) {
+                Assertions.assertNull(basicEventInfo);
+                basicEventInfo = eventHolderInfo;
+            }
+        }
+        Assertions.assertNotNull(basicEventInfo);
+        return basicEventInfo;
+    }
+
+    @Test
+    public void testPlatformMBean() throws Exception {
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        FoxEventsManagement.register();
+        try {
+            // Also check the MXBean types can be mapped to open types
+            CompositeData[] eventHolders = (CompositeData[])
+                    mBeanServer.getAttribute(FoxEventsManagement.EVENT_REGISTRY_NAME, "EventHolders");
+            Assertions.assertEquals(eventHolders.length, mBeanServer.getAttribute(
+                    FoxEventsManagement.EVENT_REGISTRY_NAME, "EventHolderCount"));
+            mBeanServer.invoke(FoxEventsManagement.EVENT_REGISTRY_NAME, "ensureBaked", null, null);
+        } finally {
+            FoxEventsManagement.unregister();
+        }
+        Assertions.assertFalse(mBeanServer.isRegistered(FoxEventsManagement.EVENT_REGISTRY_NAME));
+    }
+
+    @EventHandler
+    public void onBasicEvent(BasicEvent basicEvent) {
+        this.calls++;
+    }
+}
@@ -0,0 +1,97 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.EventHandler;
+import com.fox2code.foxevents.EventHolder;
+import com.fox2code.foxevents.EventRegistration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Tests are compiled for Java 8, so the {@code jdk.jfr} API is used reflectively,
+ * run with the {@code testJava11} task to use the Java 11+ classes of the multi-release jar.
+ */
+public class TestFlightRecorder {
+    private static final EventHolder<BasicEvent> BASIC_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(BasicEvent.class);
+    private static final String DISPATCH_EVENT = "com.fox2code.foxevents.Dispatch";
+    private static final String LISTENER_EVENT = "com.fox2code.foxevents.Listener";
+    private int calls;
+    private int validations;
+
+    @Test
+    public synchronized void testFlightRecorder() throws Throwable {
+        Assumptions.assumeTrue(isFlightRecorderSupported(), "Flight Recorder events are not available");
+        Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+        Method withThreshold = Class.forName("jdk.jfr.EventSettings").getMethod("withThreshold", Duration.class);
+        Method enable = recordingClass.getMethod("enable", String.class);
+        AutoCloseable recording = (AutoCloseable) recordingClass.getConstructor().newInstance();
+        withThreshold.invoke(enable.invoke(recording, DISPATCH_EVENT), Duration.ZERO);
+        withThreshold.invoke(enable.invoke(recording, LISTENER_EVENT), Duration.ZERO);
+        Path path = Files.createTempFile("foxevents", ".jfr");
+        EventRegistration eventRegistration = TextFoxEvents.INSTANCE.registerEventsWeak(this, () -> {
+            this.validations++;
+            return true;
+        });
+        int validations = this.validations;
+        try {
+            recordingClass.getMethod("start").invoke(recording);
+            BASIC_EVENT_HOLDER.callEvent(new BasicEvent());
+            // Batches are traced per event
+            BASIC_EVENT_HOLDER.callEvents(new BasicEvent[]{new BasicEvent(), new BasicEvent()});
+            recordingClass.getMethod("stop").invoke(recording);
+            recordingClass.getMethod("dump", Path.class).invoke(recording, path);
+            Assertions.assertEquals(3, this.calls);
+            // Recording state changes rebake traced holders without evaluating validators again
+            Assertions.assertEquals(validations, this.validations);
+            int dispatches = 0;
+            int listeners = 0;
+            for (Object recordedEvent : (List<?>) Class.forName("jdk.jfr.consumer.RecordingFile")
+                    .getMethod("readAllEvents", Path.class).invoke(null, path)) {
+                Method getValue = recordedEvent.getClass().getMethod("getValue", String.class);
+                Object eventType = recordedEvent.getClass().getMethod("getEventType").invoke(recordedEvent);
+                String eventTypeName = (String) eventType.getClass().getMethod("getName").invoke(eventType);
+                if (!BasicEvent.class.getName().equals(getValue.invoke(recordedEvent, "eventName"))) continue;
+                if (DISPATCH_EVENT.equals(eventTypeName)) {
+                    dispatches++;
+                } else if (LISTENER_EVENT.equals(eventTypeName)) {
+                    Object handlerClass = getValue.invoke(recordedEvent, "handlerClass");
+                    // Weak listeners are reported with their handler class too
+                    if (handlerClass != null && TestFlightRecorder.class.getName().equals(
+                            handlerClass.getClass().getMethod("getName").invoke(handlerClass))) {
+                        listeners++;
+                    }
+                }
+            }
+            Assertions.assertEquals(3, dispatches);
+            Assertions.assertEquals(3, listeners);
+        } finally {
+            eventRegistration.unregister();
+            recording.close();
+            this.calls = 0;
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private static boolean isFlightRecorderSupported() {
+        try {
+            Class.forName("jdk.jfr.Recording");
+            // Only present in the Java 11+ classes of the multi-release jar
+            Class.forName("com.fox2code.foxevents.FlightRecorderEventDispatcher");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    @EventHandler
+    public void onBasicEvent(BasicEvent basicEvent) {
+        this.calls++;
+    }
+}
@@ -1,9 +1,17 @@
 package com.fox2code.foxevents.tests;
 
+import com.fox2code.foxevents.DispatchStrategy;
+import com.fox2code.foxevents.EventCallback;
+import com.fox2code.foxevents.EventRegistration;
 import com.fox2code.foxevents.EventRegistrationException;
+import com.fox2code.foxevents.HandlerMetadata;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
 public class TestHandlers {
 
     @Test
@@ -25,8 +33,137 @@ public class TestHandlers {
         TextFoxEvents.INSTANCE.registerEventsWithLookup(InvalidHandler.class, InvalidHandler.SELF_LOOKUP);
     }
 
+    @Test
+    public synchronized void testCachedHandlerKeepLookupAccess() {
+        Assertions.assertEquals(1, TextFoxEvents.INSTANCE.getEventCallbacksTesting(
+                InvalidHandler.class, InvalidHandler.SELF_LOOKUP).size());
+        try {
+            TextFoxEvents.INSTANCE.getEventCallbacksTesting(InvalidHandler.class, null);
+            Assertions.fail("Cached handler didn't check lookup access");
+        } catch (EventRegistrationException ignored) {}
+    }
+
+    @Test
+    public synchronized void testCachedHandlerKeepAlternatingLookups() throws IllegalAccessException {
+        HandlerMetadata.Entry entry = HandlerMetadata.getHandlerMetadata(LambdaHandler.class).getEntries(false).get(0);
+        MethodHandle publicHandle = entry.unreflect(MethodHandles.publicLookup());
+        MethodHandle selfHandle = entry.unreflect(LambdaHandler.SELF_LOOKUP);
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertSame(publicHandle, entry.unreflect(MethodHandles.publicLookup()));
+            Assertions.assertSame(selfHandle, entry.unreflect(LambdaHandler.SELF_LOOKUP));
+        }
+    }
+
+    @Test
+    public synchronized void testCachedHandlerBindInstances() {
+        for (boolean lambdaCallbacks : new boolean[]{false, true}) {
+            TextFoxEvents.INSTANCE.lambdaCallbacks = lambdaCallbacks;
+            try {
+                LambdaHandler[] lambdaHandlers = new LambdaHandler[4];
+                for (int i = 0; i < lambdaHandlers.length; i++) {
+                    lambdaHandlers[i] = new LambdaHandler();
+                    for (EventCallback eventCallback : TextFoxEvents.INSTANCE.getEventCallbacksTesting(
+                            lambdaHandlers[i], LambdaHandler.SELF_LOOKUP)) {
+                        Assertions.assertSame(lambdaHandlers[i], eventCallback.getHolder());
+                        for (int j = 0; j <= i; j++) {
+                            eventCallback.callForEvent(new BasicSecondaryEvent());
+                        }
+                    }
+                }
+                for (int i = 0; i < lambdaHandlers.length; i++) {
+                    Assertions.assertEquals(i + 1, lambdaHandlers[i].callCount);
+                }
+            } finally {
+                TextFoxEvents.INSTANCE.lambdaCallbacks = false;
+            }
+        }
+    }
+
     @Test
     public synchronized void testRegisterAbstractHandler() {
         TextFoxEvents.INSTANCE.registerEvents(AbstractHandler.class);
     }
+
+    @Test
+    public synchronized void testLambdaCallbacksWithCallerLookup() {
+        TextFoxEvents.INSTANCE.lambdaCallbacks = true;
+        LambdaHandler lambdaHandler = new LambdaHandler();
+        try {
+            // The public lookup used by registerEvents can't make lambdas
+            for (EventCallback eventCallback : TextFoxEvents.INSTANCE.getEventCallbacksTesting(lambdaHandler, null)) {
+                Assertions.assertFalse(eventCallback.isLambdaBacked());
+            }
+            EventRegistration eventRegistration = TextFoxEvents.INSTANCE.registerEventsHandle(
+                    lambdaHandler, null, LambdaHandler.SELF_LOOKUP);
+            try {
+                Assertions.assertEquals(1, eventRegistration.getEventCallbacks().size());
+                for (EventCallback eventCallback : eventRegistration.getEventCallbacks()) {
+                    Assertions.assertTrue(eventCallback.isLambdaBacked(), "Lambda wasn't used");
+                }
+                new BasicSecondaryEvent().callEvent();
+                Assertions.assertEquals(1, lambdaHandler.callCount);
+            } finally {
+                eventRegistration.unregister();
+            }
+        } finally {
+            TextFoxEvents.INSTANCE.lambdaCallbacks = false;
+        }
+    }
+
+    @Test
+    public synchronized void testLambdaCallbacks() {
+        TextFoxEvents.INSTANCE.lambdaCallbacks = true;
+        try {
+            for (DispatchStrategy dispatchStrategy : DispatchStrategy.values()) {
+                TextFoxEvents.INSTANCE.dispatchStrategy = dispatchStrategy;
+                LambdaHandler lambdaHandler = new LambdaHandler();
+                List<EventCallback> eventCallbacks = TextFoxEvents.INSTANCE.getEventCallbacksTesting(
+                        lambdaHandler, LambdaHandler.SELF_LOOKUP);
+                Assertions.assertEquals(1, eventCallbacks.size());
+                for (EventCallback eventCallback : eventCallbacks) {
+                    Assertions.assertTrue(eventCallback.isLambdaBacked(), "Lambda wasn't used");
+                    TextFoxEvents.INSTANCE.registerEventCallbackTesting(eventCallback);
+                }
+                try {
+                    new BasicSecondaryEvent().callEvent();
+                    Assertions.assertEquals(1, lambdaHandler.callCount, dispatchStrategy.name());
+                } finally {
+                    TextFoxEvents.INSTANCE.unregisterEvents(lambdaHandler);
+                }
+            }
+        } finally {
+            TextFoxEvents.INSTANCE.lambdaCallbacks = false;
+            TextFoxEvents.INSTANCE.dispatchStrategy = DispatchStrategy.DEFAULT;
+            TextFoxEvents.INSTANCE.invalidateBakedCallbacksTesting();
+        }
+    }
+
+    @Test
+    public synchronized void testLambdaCallbacksStatic() {
+        TextFoxEvents.INSTANCE.lambdaCallbacks = true;
+        try {
+            List<EventCallback> eventCallbacks = TextFoxEvents.INSTANCE.getEventCallbacksTesting(
+                    LambdaHandler.class, LambdaHandler.SELF_LOOKUP);
+            Assertions.assertEquals(1, eventCallbacks.size());
+            Assertions.assertTrue(eventCallbacks.get(0).isLambdaBacked(), "Lambda wasn't used");
+            LambdaHandler.staticCallCount = 0;
+            eventCallbacks.get(0).callForEvent(new BasicSecondaryEvent());
+            Assertions.assertEquals(1, LambdaHandler.staticCallCount);
+        } finally {
+            TextFoxEvents.INSTANCE.lambdaCallbacks = false;
+        }
+    }
+
+    @Test
+    public synchronized void testLambdaCallbacksFallback() {
+        TextFoxEvents.INSTANCE.lambdaCallbacks = true;
+        try {
+            for (EventCallback eventCallback : TextFoxEvents.INSTANCE.getEventCallbacksTesting(
+                    new LambdaHandler(), MethodHandles.publicLookup())) {
+                Assertions.assertFalse(eventCallback.isLambdaBacked(), "Lambda used without private access");
+            }
+        } finally {
+            TextFoxEvents.INSTANCE.lambdaCallbacks = false;
+        }
+    }
 }
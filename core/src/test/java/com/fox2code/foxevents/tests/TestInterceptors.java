@@ -0,0 +1,90 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.Event;
+import com.fox2code.foxevents.EventCallback;
+import com.fox2code.foxevents.EventHandler;
+import com.fox2code.foxevents.EventHolder;
+import com.fox2code.foxevents.EventInterceptor;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+public class TestInterceptors extends PriorityHandler {
+    private static final EventHolder<CancellableEvent> CANCELLABLE_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(CancellableEvent.class);
+    private static final EventHolder<BasicSecondaryEvent> BASIC_SECONDARY_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(BasicSecondaryEvent.class);
+    private int validations;
+
+    @Test
+    public synchronized void testInterceptors() throws Throwable {
+        EventInterceptor dispatchInterceptor = new EventInterceptor() {
+            @Override
+            public boolean interceptsDispatch(@NotNull EventHolder<?> eventHolder) {
+                return eventHolder == CANCELLABLE_EVENT_HOLDER;
+            }
+
+            @Override
+            public void aroundDispatch(@NotNull EventHolder<?> eventHolder, @NotNull Event event,
+                                       @NotNull Proceed proceed) throws Throwable {
+                calls.add("before");
+                proceed.proceed(event);
+                calls.add("after");
+            }
+        };
+        EventInterceptor callbackInterceptor = new EventInterceptor() {
+            @Override
+            public boolean interceptsCallback(@NotNull EventCallback eventCallback) {
+                return eventCallback.getHolder() == TestInterceptors.this;
+            }
+
+            @Override
+            public void aroundCallback(@NotNull EventCallback eventCallback, @NotNull Event event,
+                                       @NotNull Proceed proceed) throws Throwable {
+                // Deny the highest priority callback, like a permission check would
+                if (eventCallback.priority != 3000) {
+                    proceed.proceed(event);
+                }
+            }
+        };
+        TextFoxEvents.INSTANCE.registerEvents(this, () -> {
+            this.validations++;
+            return true;
+        });
+        int validations = this.validations;
+        TextFoxEvents.INSTANCE.addEventInterceptor(dispatchInterceptor);
+        TextFoxEvents.INSTANCE.addEventInterceptor(callbackInterceptor);
+        try {
+            CANCELLABLE_EVENT_HOLDER.callEvent(new CancellableEvent());
+            Assertions.assertEquals(Arrays.asList("before", "second", "ignoreCancelled", "after"), this.calls);
+            this.calls.clear();
+            // Not intercepted by the dispatch interceptor, callbacks are still intercepted
+            BASIC_SECONDARY_EVENT_HOLDER.callEvent(new BasicSecondaryEvent());
+            Assertions.assertEquals(Arrays.asList("secondary"), this.calls);
+            this.calls.clear();
+            // Interceptors are woven into dispatch handles too
+            CANCELLABLE_EVENT_HOLDER.getDispatchHandle().invoke(new CancellableEvent());
+            Assertions.assertEquals(Arrays.asList("before", "second", "ignoreCancelled", "after"), this.calls);
+            this.calls.clear();
+            Assertions.assertTrue(TextFoxEvents.INSTANCE.removeEventInterceptor(dispatchInterceptor));
+            Assertions.assertTrue(TextFoxEvents.INSTANCE.removeEventInterceptor(callbackInterceptor));
+            Assertions.assertFalse(TextFoxEvents.INSTANCE.removeEventInterceptor(callbackInterceptor));
+            CANCELLABLE_EVENT_HOLDER.callEvent(new CancellableEvent());
+            Assertions.assertEquals(Arrays.asList("first", "second", "ignoreCancelled"), this.calls);
+            // Installing interceptors rebake holders without evaluating validators again
+            Assertions.assertEquals(validations, this.validations);
+        } finally {
+            TextFoxEvents.INSTANCE.removeEventInterceptor(dispatchInterceptor);
+            TextFoxEvents.INSTANCE.removeEventInterceptor(callbackInterceptor);
+            TextFoxEvents.INSTANCE.unregisterEvents(this);
+            this.calls.clear();
+        }
+    }
+
+    @EventHandler
+    public void onSecondary(BasicSecondaryEvent basicSecondaryEvent) {
+        this.calls.add("secondary");
+    }
+}
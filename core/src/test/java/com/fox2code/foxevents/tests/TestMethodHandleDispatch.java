@@ -0,0 +1,140 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.DispatchStrategy;
+import com.fox2code.foxevents.EventCallback;
+import com.fox2code.foxevents.EventHandler;
+import com.fox2code.foxevents.EventHolder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+public class TestMethodHandleDispatch {
+    private static final EventHolder<CancellableEvent> CANCELLABLE_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(CancellableEvent.class);
+
+    final ArrayList<String> calls = new ArrayList<>();
+    boolean shouldCancel, shouldThrow;
+
+    private void withMethodHandleTree(Object handler, TextFoxEvents.ConfigAction action) throws Exception {
+        this.withMethodHandleTree(config -> {}, handler, action);
+    }
+
+    private void withMethodHandleTree(Consumer<TextFoxEvents> config, Object handler,
+                                      TextFoxEvents.ConfigAction action) throws Exception {
+        try {
+            TextFoxEvents.INSTANCE.withConfig(config.andThen(
+                    foxEvents -> foxEvents.dispatchStrategy = DispatchStrategy.METHOD_HANDLE_TREE), action, handler);
+        } finally {
+            this.calls.clear();
+            this.shouldCancel = false;
+            this.shouldThrow = false;
+        }
+    }
+
+    @Test
+    public synchronized void testSkipOnCancelled() throws Exception {
+        this.withMethodHandleTree(new SkipHandler(), eventCallbacks -> {
+            this.calls.clear();
+            this.shouldCancel = false;
+            CANCELLABLE_EVENT_HOLDER.callEvent(new CancellableEvent());
+            Assertions.assertEquals(Arrays.asList("first", "second", "third"), this.calls);
+            // Every step after the cancellation is guarded away
+            this.calls.clear();
+            this.shouldCancel = true;
+            CancellableEvent cancellableEvent = new CancellableEvent();
+            CANCELLABLE_EVENT_HOLDER.callEvent(cancellableEvent);
+            Assertions.assertTrue(cancellableEvent.isCancelled());
+            Assertions.assertEquals(Arrays.asList("first"), this.calls);
+        });
+    }
+
+    @Test
+    public synchronized void testIgnoreCancelledMix() throws Exception {
+        this.withMethodHandleTree(new MixedHandler(), eventCallbacks -> {
+            this.calls.clear();
+            this.shouldCancel = true;
+            CANCELLABLE_EVENT_HOLDER.callEvent(new CancellableEvent());
+            Assertions.assertEquals(Arrays.asList("first", "ignoreCancelled", "lastIgnoreCancelled"), this.calls);
+            // Already cancelled events only reach ignoreCancelled steps
+            this.calls.clear();
+            this.shouldCancel = false;
+            CancellableEvent cancellableEvent = new CancellableEvent();
+            cancellableEvent.setCancelled(true);
+            CANCELLABLE_EVENT_HOLDER.callEvent(cancellableEvent);
+            Assertions.assertEquals(Arrays.asList("ignoreCancelled", "lastIgnoreCancelled"), this.calls);
+        });
+    }
+
+    @Test
+    public synchronized void testErrorRouting() throws Exception {
+        this.withMethodHandleTree(config -> config.recordEventErrors = true, new MixedHandler(), eventCallbacks -> {
+            this.calls.clear();
+            this.shouldThrow = true;
+            CANCELLABLE_EVENT_HOLDER.callEvent(new CancellableEvent());
+            // The error is reported for the failing step only, and the following steps still run
+            Assertions.assertEquals(Arrays.asList("first", "second", "ignoreCancelled",
+                    "throwing", "lastIgnoreCancelled"), this.calls);
+            Assertions.assertEquals(1, TextFoxEvents.INSTANCE.eventErrors.size());
+            Assertions.assertTrue(TextFoxEvents.INSTANCE.eventErrors.get(0) instanceof IllegalStateException);
+            EventCallback eventCallback = TextFoxEvents.INSTANCE.eventErrorCallbacks.get(0);
+            Assertions.assertEquals(2, eventCallback.priority);
+            Assertions.assertTrue(eventCallbacks.contains(eventCallback));
+        });
+    }
+
+    public class SkipHandler {
+        @EventHandler(priority = 3000)
+        public void onFirst(CancellableEvent cancellableEvent) {
+            calls.add("first");
+            if (shouldCancel) {
+                cancellableEvent.setCancelled(true);
+            }
+        }
+
+        @EventHandler(priority = 2000)
+        public void onSecond(CancellableEvent cancellableEvent) {
+            calls.add("second");
+        }
+
+        @EventHandler(priority = 1000)
+        public void onThird(CancellableEvent cancellableEvent) {
+            calls.add("third");
+        }
+    }
+
+    public class MixedHandler {
+        @EventHandler(priority = 5)
+        public void onFirst(CancellableEvent cancellableEvent) {
+            calls.add("first");
+            if (shouldCancel) {
+                cancellableEvent.setCancelled(true);
+            }
+        }
+
+        @EventHandler(priority = 4)
+        public void onSecond(CancellableEvent cancellableEvent) {
+            calls.add("second");
+        }
+
+        @EventHandler(ignoreCancelled = true, priority = 3)
+        public void onIgnoreCancelled(CancellableEvent cancellableEvent) {
+            calls.add("ignoreCancelled");
+        }
+
+        @EventHandler(priority = 2)
+        public void onThrowing(CancellableEvent cancellableEvent) {
+            calls.add("throwing");
+            if (shouldThrow) {
+                throw new IllegalStateException("Expected");
+            }
+        }
+
+        @EventHandler(ignoreCancelled = true, priority = 1)
+        public void onLastIgnoreCancelled(CancellableEvent cancellableEvent) {
+            calls.add("lastIgnoreCancelled");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.DispatchMetrics;
+import com.fox2code.foxevents.EventCallback;
+import com.fox2code.foxevents.EventHandler;
+import com.fox2code.foxevents.EventHolder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestMetrics extends PriorityHandler {
+    private static final EventHolder<BasicEvent> BASIC_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(BasicEvent.class);
+    private static final EventHolder<CancellableEvent> CANCELLABLE_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(CancellableEvent.class);
+
+    @Test
+    public synchronized void testMetrics() throws Exception {
+        this.shouldCancel = true;
+        TextFoxEvents.INSTANCE.withConfig(config -> config.metrics = true, eventCallbacks -> {
+            DispatchMetrics metrics = CANCELLABLE_EVENT_HOLDER.getMetrics();
+            Assertions.assertNotNull(metrics);
+            metrics.reset();
+            for (int i = 0; i < 5; i++) {
+                CANCELLABLE_EVENT_HOLDER.callEvent(new CancellableEvent());
+            }
+            Assertions.assertFalse(this.calls.contains("second"), "Cancelled event shouldn't be received");
+            DispatchMetrics.Snapshot snapshot = metrics.snapshot();
+            Assertions.assertEquals(5, snapshot.getCalls());
+            Assertions.assertEquals(5, snapshot.getCancellations());
+            Assertions.assertEquals(0, snapshot.getExceptions());
+            Assertions.assertTrue(snapshot.getMaxNanos() <= snapshot.getTotalNanos());
+            for (EventCallback eventCallback : eventCallbacks) {
+                if (eventCallback.eventHolder != CANCELLABLE_EVENT_HOLDER) continue;
+                DispatchMetrics.Snapshot callbackSnapshot = eventCallback.getMetrics().snapshot();
+                if (eventCallback.ignoreCancelled) {
+                    Assertions.assertEquals(5, callbackSnapshot.getCalls());
+                    Assertions.assertEquals(0, callbackSnapshot.getCancellations());
+                } else if (eventCallback.priority == 3000) {
+                    Assertions.assertEquals(5, callbackSnapshot.getCalls());
+                    Assertions.assertEquals(5, callbackSnapshot.getCancellations());
+                } else {
+                    Assertions.assertEquals(0, callbackSnapshot.getCalls());
+                }
+            }
+            Assertions.assertThrows(IllegalStateException.class,
+                    () -> BASIC_EVENT_HOLDER.callEvent(new BasicEvent()));
+            snapshot = BASIC_EVENT_HOLDER.getMetrics().snapshot();
+            Assertions.assertEquals(1, snapshot.getCalls());
+            Assertions.assertEquals(1, snapshot.getExceptions());
+            // Disabled metrics are kept, but no longer recorded
+            TextFoxEvents.INSTANCE.metrics = false;
+            TextFoxEvents.INSTANCE.invalidateBakedCallbacksTesting();
+            CANCELLABLE_EVENT_HOLDER.callEvent(new CancellableEvent());
+            Assertions.assertSame(metrics, CANCELLABLE_EVENT_HOLDER.getMetrics());
+            Assertions.assertEquals(5, metrics.snapshot().getCalls());
+        }, this);
+    }
+
+    @EventHandler
+    public void onBasicEvent(BasicEvent basicEvent) {
+        throw new IllegalStateException("Expected exception");
+    }
+}
@@ -0,0 +1,87 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.DispatchStrategy;
+import com.fox2code.foxevents.Event;
+import com.fox2code.foxevents.EventHandler;
+import com.fox2code.foxevents.EventHolder;
+import com.fox2code.foxevents.FoxEvents;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+public class TestParallelDispatch {
+    private static final EventHolder<BasicEvent> BASIC_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(BasicEvent.class);
+    private static final EventHolder<CancellableEvent> CANCELLABLE_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(CancellableEvent.class);
+    private static final int LISTENERS = 256;
+
+    @Test
+    public synchronized void testParallelDispatch() throws Exception {
+        this.withParallelListeners(listeners -> {
+            BasicEvent basicEvent = new BasicEvent();
+            for (int i = 0; i < 10; i++) {
+                BASIC_EVENT_HOLDER.callEvent(basicEvent);
+            }
+            // Every listener is called exactly once per dispatch, and all calls are joined
+            for (Listener listener : listeners) {
+                Assertions.assertEquals(10, listener.calls.get());
+            }
+            FoxEvents.Unsafe.setCancelledUnsafe(basicEvent, true);
+            BASIC_EVENT_HOLDER.callEvent(basicEvent);
+            for (Listener listener : listeners) {
+                Assertions.assertEquals(10, listener.calls.get());
+            }
+        });
+    }
+
+    @Test
+    public synchronized void testParallelIgnoresCancellable() throws Exception {
+        this.withParallelListeners(listeners -> {
+            CANCELLABLE_EVENT_HOLDER.callEvent(new CancellableEvent());
+            // Cancellable events use the sequential loop, and the first listener cancel the event
+            int called = 0;
+            for (Listener listener : listeners) {
+                called += listener.cancellableCalls.get();
+            }
+            Assertions.assertEquals(1, called);
+        });
+    }
+
+    @Test
+    public void testParallelEventAnnotation() {
+        Assertions.assertFalse(BASIC_EVENT_HOLDER.isParallel());
+        Class<?> eventClass = new TestEventHolderLookup.IsolatedClassLoader().loadIsolated(ParallelEvent.class);
+        Assertions.assertTrue(EventHolder.getHolderFromEvent(eventClass.asSubclass(Event.class)).isParallel());
+    }
+
+    private void withParallelListeners(Consumer<Listener[]> consumer) throws Exception {
+        Listener[] listeners = new Listener[LISTENERS];
+        for (int i = 0; i < LISTENERS; i++) {
+            listeners[i] = new Listener();
+        }
+        TextFoxEvents.INSTANCE.withConfig(config -> config.dispatchStrategy = DispatchStrategy.PARALLEL,
+                eventCallbacks -> consumer.accept(listeners), (Object[]) listeners);
+    }
+
+    public static class Listener {
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger cancellableCalls = new AtomicInteger();
+
+        @EventHandler
+        public void onBasicEvent(BasicEvent basicEvent) {
+            this.calls.incrementAndGet();
+        }
+
+        @EventHandler
+        public void onCancellableEvent(CancellableEvent cancellableEvent) {
+            this.cancellableCalls.incrementAndGet();
+            cancellableEvent.setCancelled(true);
+        }
+    }
+
+    @Event.ParallelEvent
+    public static class ParallelEvent extends Event {}
+}
@@ -0,0 +1,64 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.Event;
+import com.fox2code.foxevents.EventHandler;
+import com.fox2code.foxevents.EventHolder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestProvidedEventHolder {
+    private static final EventHolder<BasicEvent> BASIC_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(BasicEvent.class);
+    private int basicEventCalls;
+
+    @Test
+    public void testMatchingProvidedHolder() throws ReflectiveOperationException {
+        // Isolated, so the event holder isn't counted with the other test events holders
+        Class<? extends Event> eventClass = new TestEventHolderLookup.IsolatedClassLoader()
+                .loadIsolated(ProvidedHolderEvent.class).asSubclass(Event.class);
+        eventClass.getDeclaredField("providedHolder").set(null, EventHolder.getHolderFromEvent(eventClass));
+        Event event = eventClass.getConstructor().newInstance();
+        event.callEvent();
+        event.callEvent();
+        // The provided holder is used directly, without falling back to provideEventHolder
+        Assertions.assertEquals(0, eventClass.getDeclaredField("provideCalls").getInt(null));
+    }
+
+    @Test
+    public synchronized void testMismatchedProvidedHolder() throws ReflectiveOperationException {
+        Class<? extends Event> eventClass = new TestEventHolderLookup.IsolatedClassLoader()
+                .loadIsolated(ProvidedHolderEvent.class).asSubclass(Event.class);
+        eventClass.getDeclaredField("providedHolder").set(null, BASIC_EVENT_HOLDER);
+        TextFoxEvents.INSTANCE.registerEvents(this);
+        try {
+            Event event = eventClass.getConstructor().newInstance();
+            event.callEvent();
+            event.callEvent();
+            // The mismatched holder is ignored, and the event holder is only resolved once
+            Assertions.assertEquals(0, this.basicEventCalls);
+            Assertions.assertEquals(1, eventClass.getDeclaredField("provideCalls").getInt(null));
+        } finally {
+            TextFoxEvents.INSTANCE.unregisterEvents(this);
+        }
+    }
+
+    @EventHandler
+    public void onBasicEvent(BasicEvent basicEvent) {
+        this.basicEventCalls++;
+    }
+
+    public static class ProvidedHolderEvent extends Event {
+        public static EventHolder<?> providedHolder;
+        public static int provideCalls;
+
+        public ProvidedHolderEvent() {
+            super(providedHolder);
+        }
+
+        @Override
+        protected EventHolder<?> provideEventHolder() {
+            provideCalls++;
+            return null;
+        }
+    }
+}
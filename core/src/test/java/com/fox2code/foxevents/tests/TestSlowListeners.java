@@ -0,0 +1,99 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.EventCallback;
+import com.fox2code.foxevents.EventHandler;
+import com.fox2code.foxevents.EventHolder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class TestSlowListeners {
+    private static final EventHolder<BasicEvent> BASIC_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(BasicEvent.class);
+
+    @Test
+    public synchronized void testSlowListenerQuarantine() throws Exception {
+        TextFoxEvents.INSTANCE.withConfig(config -> {
+            config.slowListenerBudget = TimeUnit.MILLISECONDS.toNanos(5);
+            config.slowListeners.clear();
+        }, eventCallbacks -> {
+            EventCallback slowCallback = null;
+            for (EventCallback eventCallback : eventCallbacks) {
+                if (eventCallback.priority == 3000) {
+                    slowCallback = eventCallback;
+                }
+            }
+            Assertions.assertNotNull(slowCallback);
+            // Sampled dispatches over budget are followed by a sampled dispatch timing each callback,
+            // two reports need about four samples, 1 in 16 dispatches by default, so don't bound too tightly
+            for (int i = 0; i < 1024 && countReports(slowCallback) < 2; i++) {
+                BASIC_EVENT_HOLDER.callEvent(new BasicEvent());
+            }
+            // Quarantined listeners are not reported again while waiting to be unregistered
+            BASIC_EVENT_HOLDER.callEvent(new BasicEvent());
+            // Quarantined on the second consecutive slow sample
+            awaitUnregistered(slowCallback);
+            Assertions.assertEquals(2, countReports(slowCallback));
+            // A JVM pause may get a fast listener reported once, but never quarantined
+            for (EventCallback eventCallback : eventCallbacks) {
+                if (eventCallback != slowCallback) {
+                    Assertions.assertTrue(eventCallback.isRegistered());
+                }
+            }
+            // Quarantined listeners can be registered again
+            Assertions.assertTrue(TextFoxEvents.INSTANCE.registerEventCallbackTesting(slowCallback));
+        }, this);
+    }
+
+    @Test
+    public synchronized void testSlowListenerWithMetrics() throws Exception {
+        TextFoxEvents.INSTANCE.withConfig(config -> {
+            config.metrics = true;
+            config.slowListenerBudget = TimeUnit.MILLISECONDS.toNanos(5);
+            config.slowListeners.clear();
+        }, eventCallbacks -> {
+            EventCallback slowCallback = null;
+            for (EventCallback eventCallback : eventCallbacks) {
+                if (eventCallback.priority == 3000) {
+                    slowCallback = eventCallback;
+                }
+            }
+            Assertions.assertNotNull(slowCallback);
+            // Metrics time every callback, so every dispatch is checked against the budget
+            BASIC_EVENT_HOLDER.callEvent(new BasicEvent());
+            BASIC_EVENT_HOLDER.callEvent(new BasicEvent());
+            awaitUnregistered(slowCallback);
+            Assertions.assertEquals(2, countReports(slowCallback));
+            Assertions.assertNotNull(slowCallback.getMetrics());
+            Assertions.assertEquals(2, slowCallback.getMetrics().snapshot().getCalls());
+            // Holder metrics are kept once created, don't leak these calls into other tests
+            BASIC_EVENT_HOLDER.getMetrics().reset();
+        }, this);
+    }
+
+    private static int countReports(EventCallback eventCallback) {
+        int reports = 0;
+        for (EventCallback slowListener : TextFoxEvents.INSTANCE.slowListeners) {
+            if (slowListener == eventCallback) reports++;
+        }
+        return reports;
+    }
+
+    private static void awaitUnregistered(EventCallback eventCallback) {
+        // Quarantined listeners are unregistered by a daemon thread
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (eventCallback.isRegistered() && System.nanoTime() - deadline < 0) {
+            Thread.yield();
+        }
+        Assertions.assertFalse(eventCallback.isRegistered());
+    }
+
+    @EventHandler(priority = 3000)
+    public void onSlow(BasicEvent basicEvent) throws InterruptedException {
+        Thread.sleep(10);
+    }
+
+    @EventHandler
+    public void onFast(BasicEvent basicEvent) {}
+}
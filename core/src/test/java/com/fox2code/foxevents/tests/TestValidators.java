@@ -0,0 +1,72 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.EventHandler;
+import com.fox2code.foxevents.EventHolder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+public class TestValidators {
+    private static final EventHolder<BasicEvent> BASIC_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(BasicEvent.class);
+    private static final EventHolder<BasicSecondaryEvent> BASIC_SECONDARY_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(BasicSecondaryEvent.class);
+
+    @Test
+    public synchronized void testValidatorScopedInvalidation() {
+        AtomicBoolean firstValid = new AtomicBoolean(true);
+        AtomicBoolean secondValid = new AtomicBoolean(true);
+        BooleanSupplier firstValidator = firstValid::get;
+        BooleanSupplier secondValidator = secondValid::get;
+        Listener first = new Listener();
+        Listener second = new Listener();
+        TextFoxEvents.INSTANCE.registerEvents(first, firstValidator);
+        TextFoxEvents.INSTANCE.registerEvents(second, secondValidator);
+        try {
+            BASIC_SECONDARY_EVENT_HOLDER.callEvent(new BasicSecondaryEvent());
+            Assertions.assertEquals(1, first.calls);
+            Assertions.assertEquals(1, second.calls);
+            firstValid.set(false);
+            secondValid.set(false);
+            Assertions.assertTrue(TextFoxEvents.INSTANCE.invalidateCallbackValidatorsTesting(firstValidator));
+            Assertions.assertFalse(TextFoxEvents.INSTANCE.invalidateCallbackValidatorsTesting(firstValidator));
+            BASIC_SECONDARY_EVENT_HOLDER.callEvent(new BasicSecondaryEvent());
+            Assertions.assertEquals(1, first.calls);
+            // Other validators are not evaluated
+            Assertions.assertEquals(2, second.calls);
+        } finally {
+            TextFoxEvents.INSTANCE.unregisterEvents(first);
+            TextFoxEvents.INSTANCE.unregisterEvents(second);
+        }
+    }
+
+    @Test
+    public synchronized void testHolderScopedInvalidation() {
+        AtomicBoolean valid = new AtomicBoolean(true);
+        Listener listener = new Listener();
+        TextFoxEvents.INSTANCE.registerEvents(listener, valid::get);
+        try {
+            valid.set(false);
+            Assertions.assertFalse(TextFoxEvents.INSTANCE.invalidateCallbackValidatorsTesting(BASIC_EVENT_HOLDER));
+            BASIC_SECONDARY_EVENT_HOLDER.callEvent(new BasicSecondaryEvent());
+            Assertions.assertEquals(1, listener.calls);
+            Assertions.assertTrue(TextFoxEvents.INSTANCE.invalidateCallbackValidatorsTesting(
+                    BASIC_SECONDARY_EVENT_HOLDER));
+            BASIC_SECONDARY_EVENT_HOLDER.callEvent(new BasicSecondaryEvent());
+            Assertions.assertEquals(1, listener.calls);
+        } finally {
+            TextFoxEvents.INSTANCE.unregisterEvents(listener);
+        }
+    }
+
+    public static class Listener {
+        int calls;
+
+        @EventHandler
+        public void onBasicSecondaryEvent(BasicSecondaryEvent basicSecondaryEvent) {
+            this.calls++;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.fox2code.foxevents.tests;
+
+import com.fox2code.foxevents.EventCallback;
+import com.fox2code.foxevents.EventHandler;
+import com.fox2code.foxevents.EventHolder;
+import com.fox2code.foxevents.EventRegistration;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestWeakListeners {
+    private static final EventHolder<UnlistenedDelegateEvent> UNLISTENED_DELEGATE_EVENT_HOLDER =
+            EventHolder.getHolderFromEvent(UnlistenedDelegateEvent.class);
+
+    @Test
+    public synchronized void testWeakListener() {
+        WeakHandler weakHandler = new WeakHandler();
+        EventRegistration eventRegistration = TextFoxEvents.INSTANCE.registerEventsWeak(weakHandler, null);
+        try {
+            Assertions.assertEquals(1, eventRegistration.getEventCallbacks().size());
+            EventCallback eventCallback = eventRegistration.getEventCallbacks().get(0);
+            Assertions.assertTrue(eventCallback.isWeak());
+            // The deprecated field must not reference weak listeners holder
+            @SuppressWarnings("deprecation")
+            Object holder = eventCallback.holder;
+            Assertions.assertNull(holder);
+            Assertions.assertSame(weakHandler, eventCallback.getHolder());
+            new UnlistenedChildEvent().callEvent();
+            Assertions.assertEquals(1, weakHandler.calls);
+        } finally {
+            TextFoxEvents.INSTANCE.unregisterEvents(weakHandler);
+        }
+        Assertions.assertTrue(UNLISTENED_DELEGATE_EVENT_HOLDER.isEmpty());
+        new UnlistenedChildEvent().callEvent();
+        Assertions.assertEquals(1, weakHandler.calls);
+    }
+
+    @Test
+    public synchronized void testWeakListenerReclaimed() throws InterruptedException {
+        registerCollectableHandler();
+        Assertions.assertFalse(UNLISTENED_DELEGATE_EVENT_HOLDER.isEmpty());
+        for (int i = 0; i < 100 && !UNLISTENED_DELEGATE_EVENT_HOLDER.isEmpty(); i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        Assertions.assertTrue(UNLISTENED_DELEGATE_EVENT_HOLDER.isEmpty(), "Weak listener wasn't reclaimed");
+    }
+
+    @Test
+    public synchronized void testCollectedWeakListenerNotRegistered() throws InterruptedException {
+        EventCallback eventCallback = getCollectableEventCallback();
+        for (int i = 0; i < 100 && eventCallback.getHolder() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        Assertions.assertNull(eventCallback.getHolder(), "Weak listener wasn't collected");
+        // Copies of collected listeners are never reclaimed, so they must never be registered
+        EventCallback copy = eventCallback.withValidator(null);
+        Assertions.assertTrue(copy.isWeak());
+        Assertions.assertFalse(TextFoxEvents.INSTANCE.registerEventCallbackTesting(copy));
+        Assertions.assertFalse(copy.isRegistered());
+        Assertions.assertTrue(UNLISTENED_DELEGATE_EVENT_HOLDER.isEmpty());
+    }
+
+    private static EventCallback getCollectableEventCallback() {
+        EventRegistration eventRegistration = TextFoxEvents.INSTANCE.registerEventsWeak(new WeakHandler(), null);
+        eventRegistration.unregister();
+        return eventRegistration.getEventCallbacks().get(0);
+    }
+
+    private static void registerCollectableHandler() {
+        TextFoxEvents.INSTANCE.registerEventsWeak(new WeakHandler(), null);
+    }
+
+    public static class WeakHandler {
+        int calls;
+
+        @EventHandler
+        public void onUnlistenedDelegateEvent(UnlistenedDelegateEvent unlistenedDelegateEvent) {
+            this.calls++;
+        }
+    }
+}
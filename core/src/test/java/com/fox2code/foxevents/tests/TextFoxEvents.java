@@ -1,12 +1,22 @@
 package com.fox2code.foxevents.tests;
 
+import com.fox2code.foxevents.DispatchStrategy;
+import com.fox2code.foxevents.Event;
 import com.fox2code.foxevents.EventCallback;
+import com.fox2code.foxevents.EventHolder;
+import com.fox2code.foxevents.EventRegistration;
+import com.fox2code.foxevents.EventRegistryMXBean;
 import com.fox2code.foxevents.FoxEvents;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 public class TextFoxEvents extends FoxEvents {
     public static TextFoxEvents INSTANCE = new TextFoxEvents();
@@ -17,6 +27,15 @@ public class TextFoxEvents extends FoxEvents {
 
     private TextFoxEvents() {}
 
+    DispatchStrategy dispatchStrategy = DispatchStrategy.DEFAULT;
+    boolean lambdaCallbacks;
+    boolean metrics;
+    long slowListenerBudget;
+    final List<EventCallback> slowListeners = new CopyOnWriteArrayList<>();
+    boolean recordEventErrors;
+    final List<EventCallback> eventErrorCallbacks = new CopyOnWriteArrayList<>();
+    final List<Throwable> eventErrors = new CopyOnWriteArrayList<>();
+
     @Override
     public void registerEvents(@NotNull Object handler) {
         for (EventCallback eventCallback : this.getEventCallbacks(handler)) {
@@ -46,12 +65,122 @@ public class TextFoxEvents extends FoxEvents {
         }
     }
 
+    public List<EventCallback> getEventCallbacksTesting(@NotNull Object handler, @Nullable MethodHandles.Lookup lookup) {
+        return this.getEventCallbacks(handler, null, false, lookup);
+    }
+
+    public boolean registerEventCallbackTesting(@NotNull EventCallback eventCallback) {
+        return this.registerEventCallback(eventCallback);
+    }
+
+    public EventRegistration registerEventCallbacksTesting(@NotNull List<EventCallback> eventCallbacks) {
+        return this.registerEventCallbacks(eventCallbacks);
+    }
+
+    public EventRegistryMXBean getEventRegistryTesting() {
+        return this.getEventRegistry();
+    }
+
+    public boolean unregisterEventCallbackTesting(@NotNull EventCallback eventCallback) {
+        return this.unregisterEventCallback(eventCallback);
+    }
+
+    public void invalidateCallbackValidatorsTesting() {
+        this.invalidateCallbackValidators();
+    }
+
+    public void invalidateBakedCallbacksTesting() {
+        this.invalidateBakedCallbacks();
+    }
+
+    /**
+     * Apply a configuration change and register the handlers, then run the action, handlers are
+     * unregistered and the configuration reset after, callbacks are re-baked on both changes.
+     */
+    public void withConfig(@NotNull Consumer<TextFoxEvents> config,
+                           @NotNull ConfigAction action, @NotNull Object... handlers) throws Exception {
+        config.accept(this);
+        this.invalidateBakedCallbacks();
+        ArrayList<EventCallback> eventCallbacks = new ArrayList<>();
+        try {
+            for (Object handler : handlers) {
+                eventCallbacks.addAll(this.registerEventsHandle(handler).getEventCallbacks());
+            }
+            action.run(eventCallbacks);
+        } finally {
+            for (Object handler : handlers) {
+                this.unregisterEvents(handler);
+            }
+            this.resetConfig();
+            this.invalidateBakedCallbacks();
+        }
+    }
+
+    private void resetConfig() {
+        this.dispatchStrategy = DispatchStrategy.DEFAULT;
+        this.lambdaCallbacks = false;
+        this.metrics = false;
+        this.slowListenerBudget = 0;
+        this.recordEventErrors = false;
+        this.eventErrors.clear();
+        this.eventErrorCallbacks.clear();
+    }
+
+    public interface ConfigAction {
+        void run(List<EventCallback> eventCallbacks) throws Exception;
+    }
+
+    public boolean invalidateCallbackValidatorsTesting(@NotNull EventHolder<?> eventHolder) {
+        return this.invalidateCallbackValidators(eventHolder);
+    }
+
+    public boolean invalidateCallbackValidatorsTesting(@NotNull BooleanSupplier validator) {
+        return this.invalidateCallbackValidators(validator);
+    }
+
     @Override
-    public void unregisterEvents(@NotNull Object handler) {
-        if (handler.getClass().getClassLoader() != FoxEvents.class.getClassLoader()) {
-            // Cross class loader unregister is a bit iffy, but implementation can always be overridden.
-            throw new IllegalArgumentException("Handler doesn't use same class loader as FoxEvents");
+    protected boolean isUsingLambdaCallbacks() {
+        return this.lambdaCallbacks;
+    }
+
+    @Override
+    public @NotNull DispatchStrategy getDispatchStrategy(@NotNull EventHolder<?> eventHolder) {
+        return this.dispatchStrategy;
+    }
+
+    @Override
+    public boolean isMetricsEnabled(@NotNull EventHolder<?> eventHolder) {
+        return this.metrics;
+    }
+
+    @Override
+    public long getSlowListenerBudget(@NotNull EventHolder<?> eventHolder) {
+        return this.slowListenerBudget;
+    }
+
+    @Override
+    protected void onEventError(@NotNull Event event,@NotNull EventCallback eventCallback,@NotNull Throwable throwable) {
+        if (!this.recordEventErrors) {
+            super.onEventError(event, eventCallback, throwable);
+            return;
         }
-        this.unregisterEventsForClassLoader(FoxEvents.class.getClassLoader(), handler);
+        this.eventErrorCallbacks.add(eventCallback);
+        this.eventErrors.add(throwable);
+    }
+
+    @Override
+    protected boolean onSlowListener(@NotNull Event event,@NotNull EventCallback eventCallback, long nanos, int strikes) {
+        this.slowListeners.add(eventCallback);
+        return strikes >= 2;
+    }
+
+    @Override
+    public @NotNull Executor getHandlerExecutor(@NotNull String executor) {
+        return "caller".equals(executor) ? Runnable::run : super.getHandlerExecutor(executor);
+    }
+
+    @Override
+    public void unregisterEvents(@NotNull Object handler) {
+        this.unregisterEventsFromOwner(handler);
     }
 }
@@ -0,0 +1,389 @@
+package com.fox2code.foxevents.ringbuffer;
+
+import com.fox2code.foxevents.Event;
+import com.fox2code.foxevents.EventHolder;
+import com.fox2code.foxevents.FoxEvents;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Ring buffer of preallocated events in front of an {@link EventHolder}.
+ * <p>
+ * Producers claim a slot with {@link #next()}, fill the event returned by {@link #get(long)},
+ * then {@link #publish(long)} it, consumer threads then call the event through the holder
+ * and reset it with {@link Event#cleanUp()} so the slot can be reused.
+ * <p>
+ * Each event is processed by exactly one consumer, events are processed in publication order
+ * with a single consumer. As events instances are reused, {@link com.fox2code.foxevents.EventHandler#async()}
+ * handlers and handlers keeping a reference to the event may see it after it has been reused.
+ *
+ * @param <T> the event type
+ * @since 1.4.0
+ */
+public final class EventRingBuffer<T extends Event> implements AutoCloseable {
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+    private static final ThreadFactory DEFAULT_THREAD_FACTORY = runnable -> {
+        Thread thread = new Thread(runnable, "FoxEvents RingBuffer #" + threadCounter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    };
+
+    private final EventHolder<T> eventHolder;
+    private final Object[] entries;
+    private final int bufferSize;
+    private final int mask;
+    private final int indexShift;
+    private final AtomicIntegerArray available;
+    private final WaitStrategy waitStrategy;
+    private final ThreadFactory threadFactory;
+    private final Sequence cursor = new Sequence(-1);
+    private final Sequence gatingSequenceCache = new Sequence(-1);
+    private final Sequence workSequence = new Sequence(-1);
+    private final Sequence[] consumerSequences;
+    private final Thread[] consumerThreads;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private volatile boolean running = true;
+    private volatile boolean closed;
+
+    /**
+     * Create a ring buffer with a single consumer using {@link WaitStrategy#PARK}
+     *
+     * @param eventHolder the holder to dispatch events to
+     * @param eventFactory the factory used to preallocate events
+     * @param bufferSize the number of slots, must be a power of two
+     * @since 1.4.0
+     */
+    public EventRingBuffer(@NotNull EventHolder<T> eventHolder,
+                           @NotNull Supplier<? extends T> eventFactory, int bufferSize) {
+        this(eventHolder, eventFactory, bufferSize, 1, WaitStrategy.PARK, DEFAULT_THREAD_FACTORY);
+    }
+
+    /**
+     * @param eventHolder the holder to dispatch events to
+     * @param eventFactory the factory used to preallocate events
+     * @param bufferSize the number of slots, must be a power of two
+     * @param consumers the number of consumer threads
+     * @param waitStrategy the strategy used to wait for events or free slots
+     * @since 1.4.0
+     */
+    public EventRingBuffer(@NotNull EventHolder<T> eventHolder, @NotNull Supplier<? extends T> eventFactory,
+                           int bufferSize, int consumers, @NotNull WaitStrategy waitStrategy) {
+        this(eventHolder, eventFactory, bufferSize, consumers, waitStrategy, DEFAULT_THREAD_FACTORY);
+    }
+
+    /**
+     * @param eventHolder the holder to dispatch events to
+     * @param eventFactory the factory used to preallocate events
+     * @param bufferSize the number of slots, must be a power of two
+     * @param consumers the number of consumer threads
+     * @param waitStrategy the strategy used to wait for events or free slots
+     * @param threadFactory the factory used to create consumer threads
+     * @since 1.4.0
+     */
+    public EventRingBuffer(@NotNull EventHolder<T> eventHolder, @NotNull Supplier<? extends T> eventFactory,
+                           int bufferSize, int consumers, @NotNull WaitStrategy waitStrategy,
+                           @NotNull ThreadFactory threadFactory) {
+        Objects.requireNonNull(eventHolder, "eventHolder == null");
+        Objects.requireNonNull(eventFactory, "eventFactory == null");
+        Objects.requireNonNull(waitStrategy, "waitStrategy == null");
+        Objects.requireNonNull(threadFactory, "threadFactory == null");
+        if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("bufferSize must be a power of two");
+        }
+        if (consumers < 1) {
+            throw new IllegalArgumentException("consumers must be at least 1");
+        }
+        Class<T> eventClass = eventHolder.getEvent();
+        this.eventHolder = eventHolder;
+        this.entries = new Object[bufferSize];
+        for (int i = 0; i < bufferSize; i++) {
+            this.entries[i] = eventClass.cast(Objects.requireNonNull(
+                    eventFactory.get(), "eventFactory returned null"));
+        }
+        this.bufferSize = bufferSize;
+        this.mask = bufferSize - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+        this.available = new AtomicIntegerArray(bufferSize);
+        for (int i = 0; i < bufferSize; i++) {
+            this.available.set(i, -1);
+        }
+        this.waitStrategy = waitStrategy;
+        this.threadFactory = threadFactory;
+        this.consumerSequences = new Sequence[consumers];
+        for (int i = 0; i < consumers; i++) {
+            this.consumerSequences[i] = new Sequence(-1);
+        }
+        this.consumerThreads = new Thread[consumers];
+    }
+
+    /**
+     * Start the consumer threads, events can be published before the ring buffer is started,
+     * but producers will wait for free slots once the buffer is full.
+     *
+     * @throws IllegalStateException if the ring buffer is already started or closed
+     * @since 1.4.0
+     */
+    public void start() {
+        if (this.closed || !this.started.compareAndSet(false, true)) {
+            throw new IllegalStateException("Ring buffer already started");
+        }
+        for (int i = 0; i < this.consumerThreads.length; i++) {
+            Thread thread = this.threadFactory.newThread(new EventConsumer(this.consumerSequences[i]));
+            this.consumerThreads[i] = thread;
+            thread.start();
+        }
+    }
+
+    /**
+     * Claim the next slot, waiting for a free one if the buffer is full.
+     * <p>
+     * The claimed slot must always be published, even if filling the event failed.
+     *
+     * @return the sequence of the claimed slot
+     * @throws IllegalStateException if the ring buffer is closed
+     * @since 1.4.0
+     */
+    public long next() {
+        int counter = 0;
+        while (true) {
+            if (this.closed) {
+                throw new IllegalStateException("Ring buffer is closed");
+            }
+            long current = this.cursor.get();
+            long next = current + 1;
+            long wrapPoint = next - this.bufferSize;
+            if (wrapPoint > this.gatingSequenceCache.get()) {
+                long gatingSequence = this.getMinimumSequence(current);
+                if (wrapPoint > gatingSequence) {
+                    counter = this.waitStrategy.idle(counter);
+                    continue;
+                }
+                this.gatingSequenceCache.set(gatingSequence);
+            } else if (this.cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Claim the next slot if one is free.
+     * <p>
+     * The claimed slot must always be published, even if filling the event failed.
+     *
+     * @return the sequence of the claimed slot, or {@code -1} if the buffer is full
+     * @throws IllegalStateException if the ring buffer is closed
+     * @since 1.4.0
+     */
+    public long tryNext() {
+        while (true) {
+            if (this.closed) {
+                throw new IllegalStateException("Ring buffer is closed");
+            }
+            long current = this.cursor.get();
+            long next = current + 1;
+            long wrapPoint = next - this.bufferSize;
+            if (wrapPoint > this.gatingSequenceCache.get()) {
+                long gatingSequence = this.getMinimumSequence(current);
+                if (wrapPoint > gatingSequence) {
+                    return -1;
+                }
+                this.gatingSequenceCache.set(gatingSequence);
+            }
+            if (this.cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * @param sequence the sequence of a claimed slot
+     * @return the preallocated event of the slot
+     * @since 1.4.0
+     */
+    @Contract(pure = true)
+    @SuppressWarnings("unchecked")
+    public @NotNull T get(long sequence) {
+        return (T) this.entries[(int) sequence & this.mask];
+    }
+
+    /**
+     * Publish a claimed slot, making it visible to consumers.
+     *
+     * @param sequence the sequence of the claimed slot
+     * @since 1.4.0
+     */
+    public void publish(long sequence) {
+        this.available.lazySet((int) sequence & this.mask, (int) (sequence >>> this.indexShift));
+    }
+
+    /**
+     * Claim a slot, fill it with the translator, then publish it.
+     *
+     * @param translator used to fill the preallocated event
+     * @since 1.4.0
+     */
+    public void publishEvent(@NotNull Consumer<? super T> translator) {
+        long sequence = this.next();
+        try {
+            translator.accept(this.get(sequence));
+        } finally {
+            this.publish(sequence);
+        }
+    }
+
+    /**
+     * Claim a slot, fill it with the translator, then publish it,
+     * non-capturing translators allow publishing without any allocation.
+     *
+     * @param translator used to fill the preallocated event
+     * @param arg the argument passed to the translator
+     * @param <A> the argument type
+     * @since 1.4.0
+     */
+    public <A> void publishEvent(@NotNull BiConsumer<? super T, ? super A> translator, A arg) {
+        long sequence = this.next();
+        try {
+            translator.accept(this.get(sequence), arg);
+        } finally {
+            this.publish(sequence);
+        }
+    }
+
+    /**
+     * Claim a slot if one is free, fill it with the translator, then publish it.
+     *
+     * @param translator used to fill the preallocated event
+     * @return {@code false} if the buffer is full
+     * @since 1.4.0
+     */
+    public boolean tryPublishEvent(@NotNull Consumer<? super T> translator) {
+        long sequence = this.tryNext();
+        if (sequence == -1) return false;
+        try {
+            translator.accept(this.get(sequence));
+        } finally {
+            this.publish(sequence);
+        }
+        return true;
+    }
+
+    /**
+     * @return the event holder events are dispatched to
+     * @since 1.4.0
+     */
+    @Contract(pure = true)
+    public @NotNull EventHolder<T> getEventHolder() {
+        return this.eventHolder;
+    }
+
+    /**
+     * @return the number of slots of the ring buffer
+     * @since 1.4.0
+     */
+    @Contract(pure = true)
+    public int getBufferSize() {
+        return this.bufferSize;
+    }
+
+    /**
+     * Stop accepting new events, wait for published events to be processed, then stop consumers.
+     * <p>
+     * Published events are discarded if the ring buffer was never started, events
+     * claimed concurrently with the ring buffer being closed may also be discarded.
+     * <p>
+     * If interrupted while waiting for consumers, return early with the interrupt status set.
+     *
+     * @since 1.4.0
+     */
+    @Override
+    public void close() {
+        if (this.closed) return;
+        this.closed = true;
+        if (!this.started.compareAndSet(false, true)) {
+            int counter = 0;
+            long cursor = this.cursor.get();
+            while (this.getMinimumSequence(cursor) < cursor) {
+                counter = this.waitStrategy.idle(counter);
+            }
+        }
+        this.running = false;
+        try {
+            for (Thread thread : this.consumerThreads) {
+                if (thread != null) {
+                    thread.join();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long getMinimumSequence(long minimum) {
+        long workSequence = this.workSequence.get();
+        if (workSequence < minimum) {
+            minimum = workSequence;
+        }
+        for (Sequence sequence : this.consumerSequences) {
+            long value = sequence.get();
+            if (value < minimum) {
+                minimum = value;
+            }
+        }
+        return minimum;
+    }
+
+    private boolean isAvailable(long sequence) {
+        return this.available.get((int) sequence & this.mask) == (int) (sequence >>> this.indexShift);
+    }
+
+    private final class EventConsumer implements Runnable {
+        private final Sequence sequence;
+
+        EventConsumer(Sequence sequence) {
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            final Sequence workSequence = EventRingBuffer.this.workSequence;
+            final EventHolder<T> eventHolder = EventRingBuffer.this.eventHolder;
+            boolean processed = true;
+            long next = -1;
+            int counter = 0;
+            while (true) {
+                if (processed) {
+                    processed = false;
+                    // Claim the next sequence, our own sequence gate producers until it is processed
+                    do {
+                        next = workSequence.get() + 1;
+                        this.sequence.set(next - 1);
+                    } while (!workSequence.compareAndSet(next - 1, next));
+                }
+                if (isAvailable(next)) {
+                    try {
+                        eventHolder.callEventAndCleanUp(get(next));
+                    } catch (Throwable throwable) {
+                        FoxEvents.LOGGER.log(Level.SEVERE, "Failed to dispatch " +
+                                eventHolder.getEvent().getName() + " from ring buffer", throwable);
+                    }
+                    processed = true;
+                    counter = 0;
+                } else if (!running) {
+                    break;
+                } else {
+                    counter = waitStrategy.idle(counter);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.fox2code.foxevents.ringbuffer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sequence padded to its own cache line, so producers and consumers don't false-share.
+ */
+@SuppressWarnings({"unused", "serial"})
+final class Sequence extends AtomicLong {
+    private long p1, p2, p3, p4, p5, p6, p7;
+
+    Sequence(long initialValue) {
+        super(initialValue);
+    }
+}
@@ -0,0 +1,67 @@
+package com.fox2code.foxevents.ringbuffer;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Strategy used by {@link EventRingBuffer} consumers waiting for published events,
+ * and producers waiting for free slots.
+ *
+ * @since 1.4.0
+ */
+public enum WaitStrategy {
+    /**
+     * Spin without ever releasing the CPU, lowest latency, but keep a core busy per thread.
+     *
+     * @since 1.4.0
+     */
+    BUSY_SPIN {
+        @Override
+        int idle(int counter) {
+            return counter;
+        }
+    },
+    /**
+     * Spin for a while, then yield the thread, a good compromise
+     * when there are fewer consumers than cores.
+     *
+     * @since 1.4.0
+     */
+    YIELD {
+        @Override
+        int idle(int counter) {
+            if (counter < SPIN_TRIES) {
+                return counter + 1;
+            }
+            Thread.yield();
+            return counter;
+        }
+    },
+    /**
+     * Spin, yield, then park the thread, trading latency for CPU usage when idle.
+     *
+     * @since 1.4.0
+     */
+    PARK {
+        @Override
+        int idle(int counter) {
+            if (counter < SPIN_TRIES) {
+                return counter + 1;
+            }
+            if (counter < SPIN_TRIES * 2) {
+                Thread.yield();
+                return counter + 1;
+            }
+            LockSupport.parkNanos(PARK_NANOS);
+            return counter;
+        }
+    };
+
+    private static final int SPIN_TRIES = 100;
+    private static final long PARK_NANOS = 100_000L;
+
+    /**
+     * @param counter the number of times the caller idled, {@code 0} on the first call
+     * @return the counter to pass on the next call
+     */
+    abstract int idle(int counter);
+}
@@ -0,0 +1,20 @@
+package com.fox2code.foxevents.ringbuffer.tests;
+
+import com.fox2code.foxevents.Event;
+import com.fox2code.foxevents.EventHolder;
+
+public class RingEvent extends Event implements Event.Cancellable {
+    public static final EventHolder<RingEvent> HOLDER = EventHolder.getHolderFromEvent(RingEvent.class);
+
+    public long value;
+
+    public RingEvent() {
+        super(HOLDER);
+    }
+
+    @Override
+    protected void cleanUp() {
+        super.cleanUp();
+        this.value = 0;
+    }
+}
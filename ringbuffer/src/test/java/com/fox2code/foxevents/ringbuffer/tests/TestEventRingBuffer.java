@@ -0,0 +1,97 @@
+package com.fox2code.foxevents.ringbuffer.tests;
+
+import com.fox2code.foxevents.EventHandler;
+import com.fox2code.foxevents.EventRegistration;
+import com.fox2code.foxevents.FoxEvents;
+import com.fox2code.foxevents.ringbuffer.EventRingBuffer;
+import com.fox2code.foxevents.ringbuffer.WaitStrategy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TestEventRingBuffer {
+    final AtomicLong received = new AtomicLong();
+    final AtomicLong sum = new AtomicLong();
+    volatile boolean dirtyEvent;
+
+    @Test
+    public synchronized void testSingleConsumer() throws InterruptedException {
+        this.testRingBuffer(1, WaitStrategy.PARK, 1);
+    }
+
+    @Test
+    public synchronized void testMultipleConsumersAndProducers() throws InterruptedException {
+        this.testRingBuffer(3, WaitStrategy.YIELD, 4);
+    }
+
+    @Test
+    public synchronized void testBusySpin() throws InterruptedException {
+        this.testRingBuffer(2, WaitStrategy.BUSY_SPIN, 2);
+    }
+
+    @Test
+    public void testClosedRingBuffer() {
+        EventRingBuffer<RingEvent> ringBuffer = new EventRingBuffer<>(RingEvent.HOLDER, RingEvent::new, 4);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new EventRingBuffer<>(RingEvent.HOLDER, RingEvent::new, 3));
+        ringBuffer.close();
+        Assertions.assertThrows(IllegalStateException.class, ringBuffer::next);
+        Assertions.assertThrows(IllegalStateException.class, ringBuffer::start);
+    }
+
+    @Test
+    public void testTryPublishFullRingBuffer() {
+        EventRingBuffer<RingEvent> ringBuffer = new EventRingBuffer<>(RingEvent.HOLDER, RingEvent::new, 2);
+        try {
+            Assertions.assertTrue(ringBuffer.tryPublishEvent(event -> event.value = 1));
+            Assertions.assertTrue(ringBuffer.tryPublishEvent(event -> event.value = 2));
+            // Not started, so no slots are freed
+            Assertions.assertFalse(ringBuffer.tryPublishEvent(event -> event.value = 3));
+        } finally {
+            ringBuffer.close();
+        }
+    }
+
+    private void testRingBuffer(int consumers, WaitStrategy waitStrategy, int producers)
+            throws InterruptedException {
+        final int eventsPerProducer = 10_000;
+        this.received.set(0);
+        this.sum.set(0);
+        this.dirtyEvent = false;
+        EventRegistration registration = FoxEvents.getFoxEvents().registerEventsHandle(this);
+        EventRingBuffer<RingEvent> ringBuffer = new EventRingBuffer<>(
+                RingEvent.HOLDER, RingEvent::new, 64, consumers, waitStrategy);
+        try {
+            ringBuffer.start();
+            Thread[] threads = new Thread[producers];
+            for (int i = 0; i < producers; i++) {
+                threads[i] = new Thread(() -> {
+                    for (long j = 1; j <= eventsPerProducer; j++) {
+                        ringBuffer.publishEvent((event, value) -> event.value = value, j);
+                    }
+                });
+                threads[i].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } finally {
+            ringBuffer.close();
+            registration.unregister();
+        }
+        Assertions.assertFalse(this.dirtyEvent, "Event wasn't cleaned up before being reused");
+        Assertions.assertEquals((long) producers * eventsPerProducer, this.received.get());
+        Assertions.assertEquals((long) producers * eventsPerProducer * (eventsPerProducer + 1) / 2, this.sum.get());
+    }
+
+    @EventHandler
+    public void onRingEvent(RingEvent ringEvent) {
+        if (ringEvent.isCancelled() || ringEvent.value == 0) {
+            this.dirtyEvent = true;
+        }
+        ringEvent.setCancelled(true);
+        this.received.incrementAndGet();
+        this.sum.addAndGet(ringEvent.value);
+    }
+}
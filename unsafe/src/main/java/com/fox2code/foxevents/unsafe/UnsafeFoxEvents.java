@@ -7,9 +7,8 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Objects;
 import java.util.function.BooleanSupplier;
 
 /**
@@ -80,35 +79,110 @@ public abstract class UnsafeFoxEvents extends FoxEvents {
     protected final @NotNull ArrayList<EventCallback> getEventCallbacksUnsafe(
             @NotNull Object instance, @Nullable BooleanSupplier validator,
             boolean ignoreInvalid, @Nullable MethodHandles.Lookup lookup) throws EventRegistrationException {
-        if (JVM_IMPLEMENTATION == null) {
+        return this.getEventCallbacksUnsafe(instance, validator, ignoreInvalid, lookup, false);
+    }
+
+    /**
+     * Used to get the EventCallbacks of an event handler, unsafe/speedy version.
+     * @param instance the instance to get the event callbacks of
+     * @param validator the validator, or null if the result is always {@code true}.
+     * @param ignoreInvalid should it skip invalid event callback instead of throwing {@link EventRegistrationException}.
+     * @param lookup the lookup used to resolve methods
+     * @param weak if the event callbacks should only weakly reference the instance
+     * @return an {@link ArrayList} of all registered event callbacks
+     * @throws EventRegistrationException if we failed to acquire all event callbacks
+     * @since 1.4.0
+     */
+    @Contract(pure = true)
+    protected final @NotNull ArrayList<EventCallback> getEventCallbacksUnsafe(
+            @NotNull Object instance, @Nullable BooleanSupplier validator, boolean ignoreInvalid,
+            @Nullable MethodHandles.Lookup lookup, boolean weak) throws EventRegistrationException {
+        // Lambda invokers need a caller lookup with private access, the unsafe path never make them
+        if (JVM_IMPLEMENTATION == null || (lookup != null && !weak && this.isUsingLambdaCallbacks() &&
+                (lookup.lookupModes() & MethodHandles.Lookup.PRIVATE) != 0)) {
             return this.getEventCallbacks(instance, validator, ignoreInvalid,
-                    lookup == null ? TRUSTED_LOOKUP : lookup);
+                    lookup == null ? TRUSTED_LOOKUP : lookup, weak);
         }
         this.ensureInstanceAccess();
+        Object registrationScanEvent = this.beginRegistrationScan();
         ArrayList<EventCallback> eventCallbacks = new ArrayList<>();
         boolean isStatic = instance instanceof Class;
         Class<?> handlerClass = isStatic ? (Class<?>) instance : instance.getClass();
-        for (Method method : JVM_IMPLEMENTATION.getMethods(handlerClass)) {
-            if (method.isBridge() || method.isSynthetic() ||
-                    Modifier.isStatic(method.getModifiers()) != isStatic) continue;
-            EventHandler eventHandler = method.getAnnotation(EventHandler.class);
-            if (eventHandler == null) continue;
-            Class<?>[] args = method.getParameterTypes();
-            if (args.length != 1) continue;
-            EventHolder<?> eventHolder = EventHolder.getHolderFromEventRaw(args[0]);
+        weak &= !isStatic;
+        for (HandlerMetadata.Entry entry : HandlerMetadata.getHandlerMetadata(handlerClass).getEntries(isStatic)) {
+            EventHolder<?> eventHolder = EventHolder.getHolderFromEventRaw(entry.getEventClass());
             MethodHandle methodHandle;
             try {
-                methodHandle = JVM_IMPLEMENTATION.unReflectAndBind(method, isStatic ? null : instance);
+                methodHandle = entry.unreflect(JVM_IMPLEMENTATION);
+                if (!isStatic && !weak) {
+                    methodHandle = methodHandle.bindTo(instance);
+                }
             } catch (IllegalAccessException e) {
                 if (ignoreInvalid) continue;
-                throw new EventRegistrationException("Failed to un-reflect method " + method.getName(), e);
+                throw new EventRegistrationException("Failed to un-reflect method " + entry.getMethod().getName(), e);
             }
-            eventCallbacks.add(this.makeEventCallbackRaw(eventHolder, isStatic ? null : instance,
-                    methodHandle, eventHandler.ignoreCancelled(), eventHandler.priority(), validator));
+            if (weak) {
+                eventCallbacks.add(this.makeWeakEventCallbackRaw(eventHolder, instance, methodHandle,
+                        entry.isIgnoreCancelled(), entry.getPriority(), validator, entry.getAsyncExecutor()));
+                continue;
+            }
+            eventCallbacks.add(this.makeEventCallbackRaw(eventHolder, isStatic ? null : instance, methodHandle,
+                    entry.isIgnoreCancelled(), entry.getPriority(), validator, entry.getAsyncExecutor()));
         }
+        this.endRegistrationScan(registrationScanEvent, handlerClass, eventCallbacks.size());
         return eventCallbacks;
     }
 
+    /**
+     * Method used to register event handles from an instance, and get a registration handle,
+     * using {@link #getEventCallbacksUnsafe(Object, BooleanSupplier)}
+     *
+     * @param handler event handler to register
+     * @param validator used to detect when handlers should be invalid
+     * @return the registration handle
+     * @throws EventRegistrationException if failed to register the handler
+     * @since 1.4.0
+     */
+    @Override
+    public @NotNull EventRegistration registerEventsHandle(
+            @NotNull Object handler, @Nullable BooleanSupplier validator) throws EventRegistrationException {
+        return this.registerEventCallbacks(this.getEventCallbacksUnsafe(handler, validator));
+    }
+
+    /**
+     * Method used to register event handles from an instance without keeping a strong reference to it,
+     * using {@link #getEventCallbacksUnsafe(Object, BooleanSupplier, boolean, MethodHandles.Lookup, boolean)}
+     *
+     * @param handler event handler to register
+     * @param validator used to detect when handlers should be invalid
+     * @return the registration handle
+     * @throws EventRegistrationException if failed to register the handler
+     * @since 1.4.0
+     */
+    @Override
+    public @NotNull EventRegistration registerEventsWeak(
+            @NotNull Object handler, @Nullable BooleanSupplier validator) throws EventRegistrationException {
+        return this.registerEventCallbacks(this.getEventCallbacksUnsafe(handler, validator, false, null, true));
+    }
+
+    /**
+     * Method used to register event handles from an instance, and get a registration handle,
+     * using {@link #getEventCallbacksUnsafe(Object, BooleanSupplier, boolean, MethodHandles.Lookup)}
+     *
+     * @param handler event handler to register
+     * @param validator used to detect when handlers should be invalid
+     * @param lookup the lookup used to resolve handlers
+     * @return the registration handle
+     * @throws EventRegistrationException if failed to register the handler
+     * @since 1.4.0
+     */
+    @Override
+    public @NotNull EventRegistration registerEventsHandle(@NotNull Object handler, @Nullable BooleanSupplier validator,
+            @NotNull MethodHandles.Lookup lookup) throws EventRegistrationException {
+        Objects.requireNonNull(lookup, "lookup == null");
+        return this.registerEventCallbacks(this.getEventCallbacksUnsafe(handler, validator, false, lookup));
+    }
+
     /**
      * @return if unsafe acceleration is in use.
      */
@@ -2,7 +2,6 @@ package com.fox2code.foxevents.unsafe;
 
 import com.fox2code.foxevents.EventCallback;
 import com.fox2code.foxevents.EventRegistrationException;
-import com.fox2code.foxevents.FoxEvents;
 import com.fox2code.foxevents.FoxEventsImpl;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -33,10 +32,6 @@ public class UnsafeFoxEventsImpl extends UnsafeFoxEvents {
 
     @Override
     public void unregisterEvents(@NotNull Object handler) {
-        if (handler.getClass().getClassLoader() != FoxEvents.class.getClassLoader()) {
-            // Cross class loader unregister is a bit iffy, but implementation can always be overridden.
-            throw new IllegalArgumentException("Handler doesn't use same class loader as FoxEvents");
-        }
-        this.unregisterEventsForClassLoader(FoxEvents.class.getClassLoader(), handler);
+        this.unregisterEventsFromOwner(handler);
     }
 }
@@ -1,6 +1,8 @@
 package com.fox2code.foxevents.unsafe;
 
+import com.fox2code.foxevents.HandlerMetadata;
 import io.github.karlatemp.unsafeaccessor.Root;
+import org.jetbrains.annotations.NotNull;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
@@ -17,7 +19,6 @@ final class UnsafeFoxEventsJVMHelper {
         JVMImplementation implementation = null;
         try {
             lookup = Root.getTrusted(Object.class);
-            Method privateGetPublicMethodsMethod = Class.class.getDeclaredMethod("privateGetPublicMethods");
             // OpenJDK implementations work on both OpenJDK, Hotspot, and GraalVM
             try {
                 Method makeDirectMethodHandleMethod =
@@ -26,9 +27,7 @@ final class UnsafeFoxEventsJVMHelper {
                 Root.setAccessible(makeDirectMethodHandleMethod, true);
                 MethodHandle makeDirectMethodHandle = (MethodHandle)
                         makeDirectMethodHandleMethod.invoke(null, makeDirectMethodHandleMethod);
-                MethodHandle privateGetPublicMethods = (MethodHandle)
-                        makeDirectMethodHandle.invoke(privateGetPublicMethodsMethod);
-                implementation = new OpenJDKImplementation1(privateGetPublicMethods, makeDirectMethodHandle);
+                implementation = new OpenJDKImplementation1(makeDirectMethodHandle);
             } catch (NoSuchMethodException e) {
                 Class<?> memberName = Class.forName("java.lang.invoke.MemberName");
                 Constructor<?> memberNameConstructor = memberName.getDeclaredConstructor(Method.class);
@@ -43,10 +42,7 @@ final class UnsafeFoxEventsJVMHelper {
                         .invoke(null, memberNameConstructor2.newInstance(memberNameConstructor));
                 MethodHandle makeDirectMethodHandle = (MethodHandle) makeDirectMethodHandleMethod
                         .invoke(null, makeMemberName.invoke(memberNameConstructor));
-                MethodHandle privateGetPublicMethods = (MethodHandle)
-                        makeDirectMethodHandle.invoke(makeMemberName.invoke(privateGetPublicMethodsMethod));
-                implementation = new OpenJDKImplementation2(
-                        privateGetPublicMethods, makeMemberName, makeDirectMethodHandle);
+                implementation = new OpenJDKImplementation2(makeMemberName, makeDirectMethodHandle);
             }
         } catch (Throwable ignored) {}
         TRUSTED_LOOKUP = lookup;
@@ -61,77 +57,43 @@ final class UnsafeFoxEventsJVMHelper {
         return IMPLEMENTATION;
     }
 
-    static abstract class JVMImplementation {
-        abstract Method[] getMethods(Class<?> cls);
-
-        abstract MethodHandle unReflectAndBind(Method method, Object instance) throws IllegalAccessException;
-    }
+    static abstract class JVMImplementation implements HandlerMetadata.Unreflector {}
 
     private static final class OpenJDKImplementation1 extends JVMImplementation {
-        private final MethodHandle privateGetPublicMethods;
         private final MethodHandle makeDirectMethodHandle;
 
-        private OpenJDKImplementation1(MethodHandle privateGetPublicMethods, MethodHandle makeDirectMethodHandle) {
-            this.privateGetPublicMethods = privateGetPublicMethods;
+        private OpenJDKImplementation1(MethodHandle makeDirectMethodHandle) {
             this.makeDirectMethodHandle = makeDirectMethodHandle;
         }
 
         @Override
-        Method[] getMethods(Class<?> cls) {
-            try {
-                return (Method[]) this.privateGetPublicMethods.invokeExact(cls);
-            } catch (Throwable ignored) {
-                return cls.getMethods();
-            }
-        }
-
-        @Override
-        MethodHandle unReflectAndBind(Method method, Object instance) throws IllegalAccessException {
-            MethodHandle methodHandle;
+        public @NotNull MethodHandle unreflect(@NotNull Method method) throws IllegalAccessException {
             try {
-                methodHandle = (MethodHandle) this.makeDirectMethodHandle.invoke(method);
+                return (MethodHandle) this.makeDirectMethodHandle.invoke(method);
             } catch (Throwable e) {
-                methodHandle = TRUSTED_LOOKUP.unreflect(method);
+                return TRUSTED_LOOKUP.unreflect(method);
             }
-            return instance == null ? methodHandle :
-                    methodHandle.bindTo(instance);
         }
     }
 
     private static final class OpenJDKImplementation2 extends JVMImplementation {
-        private final MethodHandle privateGetPublicMethods;
         private final MethodHandle makeMemberName;
         private final MethodHandle makeDirectMethodHandle;
 
-        private OpenJDKImplementation2(
-                MethodHandle privateGetPublicMethods,
-                MethodHandle makeMemberName, MethodHandle makeDirectMethodHandle) {
-            this.privateGetPublicMethods = privateGetPublicMethods;
+        private OpenJDKImplementation2(MethodHandle makeMemberName, MethodHandle makeDirectMethodHandle) {
             this.makeMemberName = makeMemberName;
             this.makeDirectMethodHandle = makeDirectMethodHandle;
         }
 
         @Override
-        Method[] getMethods(Class<?> cls) {
-            try {
-                return (Method[]) this.privateGetPublicMethods.invokeExact(cls);
-            } catch (Throwable ignored) {
-                return cls.getMethods();
-            }
-        }
-
-        @Override
-        MethodHandle unReflectAndBind(Method method, Object instance) throws IllegalAccessException {
-            MethodHandle methodHandle;
+        public @NotNull MethodHandle unreflect(@NotNull Method method) throws IllegalAccessException {
             try {
-                methodHandle = (MethodHandle)
+                return (MethodHandle)
                         this.makeDirectMethodHandle.invoke(
                                 this.makeMemberName.invoke(method));
             } catch (Throwable e) {
-                methodHandle = TRUSTED_LOOKUP.unreflect(method);
+                return TRUSTED_LOOKUP.unreflect(method);
             }
-            return instance == null ? methodHandle :
-                    methodHandle.bindTo(instance);
         }
     }
 }
@@ -1,10 +1,14 @@
 package com.fox2code.foxevents.unsafe.tests;
 
+import com.fox2code.foxevents.EventCallback;
 import com.fox2code.foxevents.EventHandler;
 import com.fox2code.foxevents.EventHolder;
+import com.fox2code.foxevents.EventRegistration;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.invoke.MethodHandles;
+
 public class TestEventsUnsafe {
     private static final EventHolder<BasicEvent> BASIC_EVENT_HOLDER =
             EventHolder.getHolderFromEvent(BasicEvent.class);
@@ -38,6 +42,44 @@ public class TestEventsUnsafe {
         Assertions.assertEquals(1, staticEventCallCount);
     }
 
+    @Test
+    public synchronized void testLambdaCallbacksOnUnsafe() {
+        TestUnsafeFoxEvents.INSTANCE.lambdaCallbacks = true;
+        OtherHandler lambdaHandler = new OtherHandler();
+        try {
+            EventRegistration eventRegistration = TestUnsafeFoxEvents.INSTANCE.registerEventsHandle(
+                    lambdaHandler, null, MethodHandles.lookup());
+            try {
+                Assertions.assertEquals(1, eventRegistration.getEventCallbacks().size());
+                for (EventCallback eventCallback : eventRegistration.getEventCallbacks()) {
+                    Assertions.assertTrue(eventCallback.isLambdaBacked(), "Lambda wasn't used");
+                }
+                new BasicEvent().callEvent();
+                Assertions.assertEquals(1, lambdaHandler.eventCallCount);
+            } finally {
+                eventRegistration.unregister();
+            }
+        } finally {
+            TestUnsafeFoxEvents.INSTANCE.lambdaCallbacks = false;
+        }
+    }
+
+    @Test
+    public synchronized void testWeakListenerOnUnsafe() {
+        OtherHandler weakHandler = new OtherHandler();
+        EventRegistration eventRegistration = TestUnsafeFoxEvents.INSTANCE.registerEventsWeak(weakHandler, null);
+        try {
+            Assertions.assertEquals(1, eventRegistration.getEventCallbacks().size());
+            EventCallback eventCallback = eventRegistration.getEventCallbacks().get(0);
+            Assertions.assertTrue(eventCallback.isWeak());
+            Assertions.assertSame(weakHandler, eventCallback.getHolder());
+            new BasicEvent().callEvent();
+            Assertions.assertEquals(1, weakHandler.eventCallCount);
+        } finally {
+            eventRegistration.unregister();
+        }
+    }
+
     @EventHandler
     public void onEvent(BasicEvent event) {
         this.eventCallCount++;
@@ -47,4 +89,13 @@ public class TestEventsUnsafe {
     public static void onEventStatic(BasicEvent event) {
         staticEventCallCount++;
     }
+
+    public static class OtherHandler {
+        int eventCallCount;
+
+        @EventHandler
+        public void onEvent(BasicEvent event) {
+            this.eventCallCount++;
+        }
+    }
 }
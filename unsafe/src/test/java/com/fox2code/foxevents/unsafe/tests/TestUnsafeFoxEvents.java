@@ -18,6 +18,8 @@ public class TestUnsafeFoxEvents extends UnsafeFoxEvents {
 
     private TestUnsafeFoxEvents() {}
 
+    boolean lambdaCallbacks;
+
     @Override
     public void registerEvents(@NotNull Object handler) {
         for (EventCallback eventCallback : this.getEventCallbacksUnsafe(handler)) {
@@ -47,16 +49,17 @@ public class TestUnsafeFoxEvents extends UnsafeFoxEvents {
         }
     }
 
+    @Override
+    protected boolean isUsingLambdaCallbacks() {
+        return this.lambdaCallbacks;
+    }
+
     public boolean isUsingUnsafeAccelerationTesting() {
         return this.isUsingUnsafeAcceleration();
     }
 
     @Override
     public void unregisterEvents(@NotNull Object handler) {
-        if (handler.getClass().getClassLoader() != FoxEvents.class.getClassLoader()) {
-            // Cross class loader unregister is a bit iffy, but implementation can always be overridden.
-            throw new IllegalArgumentException("Handler doesn't use same class loader as FoxEvents");
-        }
-        this.unregisterEventsForClassLoader(FoxEvents.class.getClassLoader(), handler);
+        this.unregisterEventsFromOwner(handler);
     }
 }